@@ -30,7 +30,6 @@ import org.eclipse.lsp4j.Hover;
 import org.eclipse.lsp4j.HoverParams;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4jakarta.api.JakartaLanguageClientAPI;
 import org.eclipse.lsp4jakarta.commons.JakartaClasspathParams;
 import org.eclipse.lsp4jakarta.commons.JakartaDiagnosticsParams;
@@ -41,6 +40,10 @@ import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
 import org.eclipse.lsp4jakarta.jdt.core.JDTServicesManager;
 import org.eclipse.lsp4jakarta.jdt.core.JDTUtils;
 
+import io.openliberty.tools.eclipse.ls.plugin.JDTRequestExecutor;
+import io.openliberty.tools.eclipse.ls.plugin.JDTRequestExecutor.Priority;
+import io.openliberty.tools.eclipse.ls.plugin.JavaDiagnosticsCoalescer;
+
 /**
  * Liberty Devex MicroProfile language client.
  * 
@@ -66,7 +69,7 @@ public class JakartaLSClientImpl extends LanguageClientImpl implements JakartaLa
     @Override
     public CompletableFuture<JavaCursorContextResult> getJavaCursorContext(JakartaJavaCompletionParams params) {
         JDTUtils utils = new JDTUtils();
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 return JDTServicesManager.getInstance().javaCursorContext(params, utils, monitor);
@@ -78,7 +81,7 @@ public class JakartaLSClientImpl extends LanguageClientImpl implements JakartaLa
     
     @Override
     public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(JakartaDiagnosticsParams javaParams) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JavaDiagnosticsCoalescer.getInstance().getDiagnostics("jakarta", javaParams.getUris(), javaParams, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
 
             List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
@@ -99,7 +102,7 @@ public class JakartaLSClientImpl extends LanguageClientImpl implements JakartaLa
      */
     @Override
     public CompletableFuture<List<String>> getContextBasedFilter(JakartaClasspathParams classpathParams) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, (cancelChecker) -> {
             return JDTServicesManager.getInstance().getExistingContextsFromClassPath(classpathParams.getUri(), classpathParams.getSnippetCtx()); 
         });
     }
@@ -108,7 +111,7 @@ public class JakartaLSClientImpl extends LanguageClientImpl implements JakartaLa
     public CompletableFuture<List<CodeAction>> getCodeAction(JakartaJavaCodeActionParams params) {
         JDTUtils utils = new JDTUtils();
 
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 JakartaJavaCodeActionParams JakartaParams = new JakartaJavaCodeActionParams(params.getTextDocument(),
@@ -36,23 +36,35 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
 
+import io.openliberty.tools.eclipse.ls.plugin.ClassDataSharing;
+import io.openliberty.tools.eclipse.ls.plugin.LanguageServerJVMOptions;
 import io.openliberty.tools.eclipse.ls.plugin.LibertyToolsLSPlugin;
+import io.openliberty.tools.eclipse.ls.plugin.SharedJVMStreamConnectionProvider;
 
-public class JakartaLSConnection extends ProcessStreamConnectionProvider {
+public class JakartaLSConnection extends SharedJVMStreamConnectionProvider {
+
+    /** The language server's main class. */
+    public static final String MAIN_CLASS = "org.eclipse.lsp4jakarta.JakartaLanguageServerLauncher";
 
     public JakartaLSConnection() {
 
       List<String> commands = new ArrayList<>();
       commands.add(computeJavaPath());
+      if (!useSharedJVM()) {
+          commands.addAll(LanguageServerJVMOptions.getOptions());
+      }
       String debugPortString = System.getProperty(getClass().getName() + ".debugPort");
       if (debugPortString != null) {
           commands.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=" + debugPortString);
       }
       commands.add("-classpath");
       try {
-          commands.add(computeClasspath());
+          String classpath = computeClasspath();
+          commands.add(classpath);
+          if (!useSharedJVM()) {
+              commands.addAll(ClassDataSharing.getArchiveOptions("jakarta-langserver", classpath));
+          }
 
           // set current locale to LS JVM
           // probably don't need this when locale is set to system
@@ -60,7 +72,7 @@ public class JakartaLSConnection extends ProcessStreamConnectionProvider {
           commands.add("-Duser.language=" + currentLocale.getLanguage());
           commands.add("-Duser.country=" + currentLocale.getCountry());
 
-          commands.add("org.eclipse.lsp4jakarta.JakartaLanguageServerLauncher");
+          commands.add(getMainClass());
           setCommands(commands);
           setWorkingDirectory(System.getProperty("user.dir"));
       } catch (IOException e) {
@@ -69,6 +81,16 @@ public class JakartaLSConnection extends ProcessStreamConnectionProvider {
       }
 
   }
+    @Override
+    protected String getMainClass() {
+        return MAIN_CLASS;
+    }
+
+    @Override
+    protected String getServerJarPath() throws IOException {
+        return computeClasspath();
+    }
+
     private String computeClasspath() throws IOException {
         StringBuilder builder = new StringBuilder();
         URL url = FileLocator.toFileURL(getClass().getResource("/server/jakarta-langserver/org.eclipse.lsp4jakarta.ls.jar"));
@@ -0,0 +1,298 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.host;
+
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.Permission;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hosts several language servers in a single JVM.
+ *
+ * This class runs in its own JVM and only depends on the JDK. It listens on a loopback port, which it prints to its standard output
+ * as {@value #PORT_PREFIX}&lt;port&gt;. Each connection starts with a header line holding the language server's main class and
+ * jar path separated by a tab. The server's main method is then run in an isolated class loader, with the connection's streams as
+ * its standard input and output. Language servers capture their standard streams when they create their LSP launcher, right
+ * before they start reading, so the streams are swapped in for one server at a time until the server's first read. Calls to
+ * System.exit made by a server's threads close the server's connection instead of ending the JVM. If the JVM does not allow the
+ * security manager that intercepts those calls to be installed, the host prints {@value #EXIT_TRAP_UNSUPPORTED} instead of its port
+ * and ends, and each language server is run in its own JVM.
+ */
+public final class LanguageServerHost {
+
+    /** Prefix of the line that holds the port the host listens on. */
+    public static final String PORT_PREFIX = "port=";
+
+    /** Line printed instead of the port when the host cannot intercept the System.exit calls of the language servers. */
+    public static final String EXIT_TRAP_UNSUPPORTED = "exitTrapUnsupported";
+
+    /** Maximum number of milliseconds to wait for a language server to start reading its input. */
+    private static final long CAPTURE_TIMEOUT_MILLIS = 60000;
+
+    /** The host's standard error, which also receives any output that is not part of a language server connection. */
+    private static final PrintStream hostErr = System.err;
+
+    /** Stream given as standard input outside of language server starts. */
+    private static final InputStream emptyIn = new ByteArrayInputStream(new byte[0]);
+
+    /** The connection of each language server, keyed by the thread group of the server's threads. */
+    private static final Map<ThreadGroup, Socket> sessions = new ConcurrentHashMap<ThreadGroup, Socket>();
+
+    /** Lock held while the standard streams of the JVM are set to the streams of a starting language server. */
+    private static final Object startLock = new Object();
+
+    /**
+     * Constructor.
+     */
+    private LanguageServerHost() {
+    }
+
+    /**
+     * Starts the host.
+     *
+     * @param args Not used.
+     *
+     * @throws IOException If the host cannot listen for connections.
+     */
+    public static void main(String[] args) throws IOException {
+        InputStream parentIn = System.in;
+        PrintStream parentOut = System.out;
+        if (!trapExit()) {
+            parentOut.println(EXIT_TRAP_UNSUPPORTED);
+            parentOut.flush();
+            return;
+        }
+
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        parentOut.println(PORT_PREFIX + serverSocket.getLocalPort());
+        parentOut.flush();
+        System.setIn(emptyIn);
+        System.setOut(hostErr);
+
+        // End the host when the parent process ends, which closes the host's standard input.
+        Thread parentWatcher = new Thread(() -> {
+            try {
+                while (parentIn.read() >= 0) {
+                    // Ignore any input.
+                }
+            } catch (IOException e) {
+                // The parent ended.
+            }
+            Runtime.getRuntime().halt(0);
+        }, "Language server host parent watcher");
+        parentWatcher.setDaemon(true);
+        parentWatcher.start();
+
+        while (true) {
+            Socket socket = serverSocket.accept();
+            new Thread(() -> startSession(socket), "Language server host session start").start();
+        }
+    }
+
+    /**
+     * Reads the header of a new connection, and starts the requested language server.
+     *
+     * @param socket The connection.
+     */
+    private static void startSession(Socket socket) {
+        String mainClass = null;
+        try {
+            String header = readHeader(socket.getInputStream());
+            int separator = header.indexOf('\t');
+            if (separator <= 0) {
+                throw new IOException("Invalid language server header: " + header);
+            }
+            mainClass = header.substring(0, separator);
+            String jarPath = header.substring(separator + 1);
+
+            ThreadGroup group = new ThreadGroup(mainClass);
+            sessions.put(group, socket);
+            CaptureInputStream in = new CaptureInputStream(socket.getInputStream());
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream()), false, StandardCharsets.UTF_8);
+
+            synchronized (startLock) {
+                System.setIn(in);
+                System.setOut(out);
+                try {
+                    String serverMainClass = mainClass;
+                    Thread serverThread = new Thread(group, () -> runServer(serverMainClass, jarPath, socket), mainClass);
+                    serverThread.start();
+                    if (!in.awaitFirstRead(CAPTURE_TIMEOUT_MILLIS)) {
+                        hostErr.println("Language server " + mainClass + " did not start reading its input. Closing its connection.");
+                        close(socket);
+                    }
+                } finally {
+                    System.setIn(emptyIn);
+                    System.setOut(hostErr);
+                }
+            }
+        } catch (Exception e) {
+            hostErr.println("Unable to start language server " + mainClass + ": " + e);
+            close(socket);
+        }
+    }
+
+    /**
+     * Runs the main method of a language server in its own class loader.
+     *
+     * @param mainClass The language server's main class.
+     * @param jarPath The path of the jar holding the language server and its dependencies.
+     * @param socket The language server's connection.
+     */
+    private static void runServer(String mainClass, String jarPath, Socket socket) {
+        try {
+            URLClassLoader loader = new URLClassLoader(new URL[] { new File(jarPath).toURI().toURL() },
+                    ClassLoader.getPlatformClassLoader());
+            Thread.currentThread().setContextClassLoader(loader);
+            Method main = loader.loadClass(mainClass).getMethod("main", String[].class);
+            main.invoke(null, (Object) new String[0]);
+        } catch (Throwable t) {
+            hostErr.println("Language server " + mainClass + " failed: " + t);
+            close(socket);
+        }
+    }
+
+    /**
+     * Reads the header line of a connection.
+     *
+     * @param in The connection's input stream.
+     *
+     * @return The header line.
+     *
+     * @throws IOException If the header cannot be read.
+     */
+    private static String readHeader(InputStream in) throws IOException {
+        StringBuilder header = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new IOException("The connection closed before its header was read.");
+            }
+            header.append((char) b);
+        }
+
+        return new String(header.toString().getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Installs a security manager that turns the System.exit calls made by the threads of a language server into the closing of the
+     * server's connection.
+     *
+     * @return True if the security manager was installed. False if the JVM does not allow it, in which case a System.exit call from
+     *         one language server would end all the others.
+     */
+    @SuppressWarnings("removal")
+    private static boolean trapExit() {
+        try {
+            System.setSecurityManager(new SecurityManager() {
+                @Override
+                public void checkPermission(Permission perm) {
+                }
+
+                @Override
+                public void checkPermission(Permission perm, Object context) {
+                }
+
+                @Override
+                public void checkExit(int status) {
+                    Socket socket = findSession(Thread.currentThread().getThreadGroup());
+                    if (socket != null) {
+                        close(socket);
+                        throw new SecurityException("The exit of a language server hosted in a shared JVM was intercepted.");
+                    }
+                }
+            });
+        } catch (UnsupportedOperationException | SecurityException e) {
+            hostErr.println("System.exit calls from the language servers cannot be intercepted on this JVM: " + e);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the connection of the language server that owns the input thread group.
+     *
+     * @param group The thread group.
+     *
+     * @return The connection of the language server that owns the input thread group, or null if none does.
+     */
+    private static Socket findSession(ThreadGroup group) {
+        for (ThreadGroup current = group; current != null; current = current.getParent()) {
+            Socket socket = sessions.get(current);
+            if (socket != null) {
+                return socket;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Closes the input connection.
+     *
+     * @param socket The connection.
+     */
+    private static void close(Socket socket) {
+        sessions.values().remove(socket);
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing to do.
+        }
+    }
+
+    /**
+     * Input stream that signals the first time it is read.
+     */
+    private static class CaptureInputStream extends FilterInputStream {
+
+        private final CountDownLatch firstRead = new CountDownLatch(1);
+
+        CaptureInputStream(InputStream in) {
+            super(in);
+        }
+
+        boolean awaitFirstRead(long timeoutMillis) throws InterruptedException {
+            return firstRead.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int read() throws IOException {
+            firstRead.countDown();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            firstRead.countDown();
+            return super.read(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.metrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openliberty.tools.eclipse.ls.metrics.MethodStats.Direction;
+
+/**
+ * Latency and throughput of the JSON-RPC requests exchanged with the Liberty Tools language servers.
+ *
+ * Requests sent by the IDE measure the language servers. Requests sent by the language servers measure the JDT callbacks of the
+ * language clients. Recording is off by default. It is turned on from the Language Server Metrics view, or at startup through the
+ * {@link #RECORD_PROPERTY} system property.
+ */
+public class LanguageServerMetrics {
+
+    /** System property that, when set to true, records the metrics from startup. */
+    public static final String RECORD_PROPERTY = "io.openliberty.tools.eclipse.ls.metrics";
+
+    /** The instance of this class. */
+    private static LanguageServerMetrics instance;
+
+    /** The statistics of each method, keyed by server, direction, and method. */
+    private final Map<String, MethodStats> stats = new ConcurrentHashMap<String, MethodStats>();
+
+    /** Whether or not requests are recorded. */
+    private volatile boolean recording = Boolean.getBoolean(RECORD_PROPERTY);
+
+    /** The time since which the statistics were collected. */
+    private volatile Instant since = Instant.now();
+
+    /**
+     * Constructor.
+     */
+    private LanguageServerMetrics() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized LanguageServerMetrics getInstance() {
+        if (instance == null) {
+            instance = new LanguageServerMetrics();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns a tracker of the messages exchanged with a language server.
+     *
+     * @param server The language server label.
+     *
+     * @return A tracker of the messages exchanged with the language server.
+     */
+    public MessageTracker createTracker(String server) {
+        return new MessageTracker(this, server);
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Discards the collected statistics.
+     */
+    public void reset() {
+        stats.clear();
+        since = Instant.now();
+    }
+
+    /**
+     * Records the latency of a request.
+     *
+     * @param server The language server label.
+     * @param direction The request direction.
+     * @param method The JSON-RPC method.
+     * @param latencyMillis The latency in milliseconds.
+     */
+    void record(String server, Direction direction, String method, long latencyMillis) {
+        if (!recording) {
+            return;
+        }
+
+        stats.computeIfAbsent(server + "|" + direction + "|" + method, key -> new MethodStats(server, direction, method))
+                .record(latencyMillis);
+    }
+
+    /**
+     * Returns the statistics of each method, sorted by server, direction, and method.
+     *
+     * @return The statistics of each method.
+     */
+    public List<MethodStats> getStats() {
+        List<MethodStats> result = new ArrayList<MethodStats>(stats.values());
+        result.sort(Comparator.comparing(MethodStats::getServer).thenComparing(MethodStats::getDirection)
+                .thenComparing(MethodStats::getMethod));
+        return result;
+    }
+
+    /**
+     * Returns the number of requests per minute of the input method since the statistics were collected.
+     *
+     * @param methodStats The method statistics.
+     *
+     * @return The number of requests per minute.
+     */
+    public double getPerMinute(MethodStats methodStats) {
+        double minutes = Math.max(Duration.between(since, Instant.now()).toMillis(), 1) / 60000.0;
+        return methodStats.getCount() / minutes;
+    }
+
+    /**
+     * Returns the statistics as JSON.
+     *
+     * @return The statistics as JSON.
+     */
+    public String toJson() {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        JsonObject root = new JsonObject();
+        root.addProperty("since", since.toString());
+        root.addProperty("elapsedSeconds", Duration.between(since, Instant.now()).getSeconds());
+
+        JsonArray methods = new JsonArray();
+        for (MethodStats methodStats : getStats()) {
+            JsonObject method = new JsonObject();
+            method.addProperty("server", methodStats.getServer());
+            method.addProperty("direction", methodStats.getDirection().name());
+            method.addProperty("method", methodStats.getMethod());
+            method.addProperty("count", methodStats.getCount());
+            method.addProperty("perMinute", getPerMinute(methodStats));
+            method.addProperty("meanMillis", methodStats.getMeanMillis());
+            method.addProperty("p50Millis", methodStats.getPercentileMillis(50));
+            method.addProperty("p90Millis", methodStats.getPercentileMillis(90));
+            method.addProperty("p99Millis", methodStats.getPercentileMillis(99));
+            method.addProperty("maxMillis", methodStats.getMaxMillis());
+
+            Map<String, Long> histogram = new LinkedHashMap<String, Long>();
+            long[] buckets = methodStats.getBuckets();
+            for (int i = 0; i < buckets.length; i++) {
+                long bound = MethodStats.BUCKET_BOUNDS[i];
+                histogram.put((bound == Long.MAX_VALUE) ? "more" : "<=" + bound, buckets[i]);
+            }
+            method.add("histogram", gson.toJsonTree(histogram));
+            methods.add(method);
+        }
+        root.add("methods", methods);
+
+        return gson.toJson(root);
+    }
+}
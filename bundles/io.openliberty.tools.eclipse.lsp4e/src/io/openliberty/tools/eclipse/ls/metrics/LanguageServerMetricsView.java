@@ -0,0 +1,242 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.metrics;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.function.Function;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.part.ViewPart;
+
+import io.openliberty.tools.eclipse.ls.plugin.LibertyToolsLSPlugin;
+
+/**
+ * View of the latency and throughput of the requests exchanged with the Liberty Tools language servers. It shows, per language
+ * server, direction, and method, the number of requests, their rate, and their latency percentiles. The statistics can be exported
+ * as JSON.
+ */
+public class LanguageServerMetricsView extends ViewPart {
+
+    /** Language server metrics view ID. */
+    public static final String ID = "io.openliberty.tools.eclipse.views.liberty.ls.metrics";
+
+    /** Number of milliseconds between refreshes of the view while the metrics are recorded. */
+    private static final int REFRESH_INTERVAL_MILLIS = 2000;
+
+    /** Table viewer that holds the method statistics. */
+    private TableViewer viewer;
+
+    /** Task that refreshes the view periodically while the metrics are recorded. */
+    private Runnable refreshTask;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void createPartControl(Composite parent) {
+        viewer = new TableViewer(parent, SWT.SINGLE | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+        viewer.setContentProvider(ArrayContentProvider.getInstance());
+
+        Table table = viewer.getTable();
+        table.setHeaderVisible(true);
+        table.setLinesVisible(true);
+
+        LanguageServerMetrics metrics = LanguageServerMetrics.getInstance();
+        createColumn("Server", 200, s -> s.getServer());
+        createColumn("Direction", 110, s -> s.getDirection().getLabel());
+        createColumn("Method", 220, s -> s.getMethod());
+        createColumn("Count", 60, s -> String.valueOf(s.getCount()));
+        createColumn("Per minute", 80, s -> String.format("%.1f", metrics.getPerMinute(s)));
+        createColumn("Mean", 70, s -> formatMillis(s.getMeanMillis()));
+        createColumn("p50", 70, s -> formatMillis(s.getPercentileMillis(50)));
+        createColumn("p90", 70, s -> formatMillis(s.getPercentileMillis(90)));
+        createColumn("p99", 70, s -> formatMillis(s.getPercentileMillis(99)));
+        createColumn("Max", 70, s -> formatMillis(s.getMaxMillis()));
+
+        refreshTask = () -> {
+            if (viewer == null || viewer.getControl().isDisposed()) {
+                return;
+            }
+            if (LanguageServerMetrics.getInstance().isRecording()) {
+                refresh();
+            }
+            viewer.getControl().getDisplay().timerExec(REFRESH_INTERVAL_MILLIS, refreshTask);
+        };
+        viewer.getControl().getDisplay().timerExec(REFRESH_INTERVAL_MILLIS, refreshTask);
+
+        addToolbarActions();
+        refresh();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFocus() {
+        viewer.getControl().setFocus();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose() {
+        if (viewer != null && !viewer.getControl().isDisposed()) {
+            viewer.getControl().getDisplay().timerExec(-1, refreshTask);
+        }
+        super.dispose();
+        viewer = null;
+    }
+
+    /**
+     * Reloads the view content.
+     */
+    public void refresh() {
+        if (viewer == null || viewer.getControl().isDisposed()) {
+            return;
+        }
+
+        viewer.setInput(LanguageServerMetrics.getInstance().getStats());
+    }
+
+    /**
+     * Creates a table column.
+     *
+     * @param title The column title.
+     * @param width The column width.
+     * @param textProvider The function that returns the column text of a method's statistics.
+     */
+    private void createColumn(String title, int width, Function<MethodStats, String> textProvider) {
+        TableViewerColumn column = new TableViewerColumn(viewer, SWT.NONE);
+        column.getColumn().setText(title);
+        column.getColumn().setWidth(width);
+        column.getColumn().setResizable(true);
+        column.setLabelProvider(new ColumnLabelProvider() {
+            @Override
+            public String getText(Object element) {
+                return textProvider.apply((MethodStats) element);
+            }
+        });
+    }
+
+    /**
+     * Populates the toolbar.
+     */
+    private void addToolbarActions() {
+        ImageDescriptor refreshImg = null;
+        ImageDescriptor recordImg = null;
+        ImageDescriptor clearImg = null;
+        ImageDescriptor exportImg = null;
+        try {
+            refreshImg = ImageDescriptor.createFromURL(new URL("platform:/plugin/org.eclipse.ui.browser/icons/clcl16/nav_refresh.png"));
+            recordImg = ImageDescriptor.createFromURL(new URL("platform:/plugin/org.eclipse.debug.ui/icons/full/elcl16/resume_co.png"));
+            clearImg = ImageDescriptor.createFromURL(new URL("platform:/plugin/org.eclipse.ui/icons/full/etool16/delete.png"));
+            exportImg = ImageDescriptor.createFromURL(new URL("platform:/plugin/org.eclipse.ui/icons/full/etool16/export_wiz.png"));
+        } catch (Exception e) {
+            LibertyToolsLSPlugin.logException("An error was detected while retrieving image descriptions.", e);
+        }
+
+        LanguageServerMetrics metrics = LanguageServerMetrics.getInstance();
+
+        Action refreshAction = new Action("Refresh") {
+            @Override
+            public void run() {
+                refresh();
+            }
+        };
+        refreshAction.setImageDescriptor(refreshImg);
+
+        Action recordAction = new Action("Record request latencies", IAction.AS_CHECK_BOX) {
+            @Override
+            public void run() {
+                metrics.setRecording(isChecked());
+                refresh();
+            }
+        };
+        recordAction.setChecked(metrics.isRecording());
+        recordAction.setImageDescriptor(recordImg);
+
+        Action resetAction = new Action("Reset") {
+            @Override
+            public void run() {
+                metrics.reset();
+                refresh();
+            }
+        };
+        resetAction.setImageDescriptor(clearImg);
+
+        Action exportAction = new Action("Export as JSON") {
+            @Override
+            public void run() {
+                exportJson();
+            }
+        };
+        exportAction.setImageDescriptor(exportImg);
+
+        IToolBarManager tbMgr = getViewSite().getActionBars().getToolBarManager();
+        tbMgr.add(refreshAction);
+        tbMgr.add(recordAction);
+        tbMgr.add(resetAction);
+        tbMgr.add(exportAction);
+    }
+
+    /**
+     * Writes the statistics as JSON to a file chosen by the user.
+     */
+    private void exportJson() {
+        FileDialog dialog = new FileDialog(getSite().getShell(), SWT.SAVE);
+        dialog.setText("Export Language Server Metrics");
+        dialog.setFileName("language-server-metrics.json");
+        dialog.setFilterExtensions(new String[] { "*.json" });
+        dialog.setOverwrite(true);
+        String path = dialog.open();
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.write(Paths.get(path), LanguageServerMetrics.getInstance().toJson().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            String msg = "The language server metrics could not be written to " + path + ".";
+            LibertyToolsLSPlugin.logException(msg, e);
+            MessageDialog.openError(getSite().getShell(), "Liberty Tools", msg + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the input number of milliseconds formatted for display.
+     *
+     * @param millis The number of milliseconds.
+     *
+     * @return The input number of milliseconds formatted for display.
+     */
+    private static String formatMillis(long millis) {
+        return millis + " ms";
+    }
+}
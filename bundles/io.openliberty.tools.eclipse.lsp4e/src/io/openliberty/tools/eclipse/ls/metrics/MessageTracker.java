@@ -0,0 +1,245 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import io.openliberty.tools.eclipse.ls.metrics.MethodStats.Direction;
+
+/**
+ * Tracker of the JSON-RPC messages exchanged with a language server.
+ *
+ * The bytes written to and read from the language server are split into messages using their Content-Length headers. While the
+ * metrics are recorded, the identifier and method of each message are read, and the latency of a request is recorded when its
+ * response goes through the opposite stream. Message contents are not kept.
+ */
+public class MessageTracker {
+
+    /** Maximum number of requests awaiting a response, per direction. Older requests are assumed to be lost. */
+    private static final int MAX_PENDING_REQUESTS = 1000;
+
+    /** Maximum length of a message header. Longer headers mean the stream is not JSON-RPC, and are discarded. */
+    private static final int MAX_HEADER_LENGTH = 8192;
+
+    private static final String CONTENT_LENGTH = "content-length:";
+
+    private final LanguageServerMetrics metrics;
+    private final String server;
+
+    /** The parser of the messages written to the language server. */
+    private final FrameParser sentParser = new FrameParser(true);
+
+    /** The parser of the messages read from the language server. */
+    private final FrameParser receivedParser = new FrameParser(false);
+
+    /** The requests sent to the language server that await a response, keyed by identifier. */
+    private final Map<String, PendingRequest> clientRequests = createPendingMap();
+
+    /** The requests sent by the language server that await a response, keyed by identifier. */
+    private final Map<String, PendingRequest> serverRequests = createPendingMap();
+
+    /**
+     * Constructor.
+     *
+     * @param metrics The metrics recording the latencies.
+     * @param server The language server label.
+     */
+    MessageTracker(LanguageServerMetrics metrics, String server) {
+        this.metrics = metrics;
+        this.server = server;
+    }
+
+    /**
+     * Tracks bytes written to the language server.
+     *
+     * @param bytes The buffer.
+     * @param offset The offset of the written bytes.
+     * @param length The number of written bytes.
+     */
+    public void sent(byte[] bytes, int offset, int length) {
+        sentParser.feed(bytes, offset, length);
+    }
+
+    /**
+     * Tracks bytes read from the language server.
+     *
+     * @param bytes The buffer.
+     * @param offset The offset of the read bytes.
+     * @param length The number of read bytes.
+     */
+    public void received(byte[] bytes, int offset, int length) {
+        receivedParser.feed(bytes, offset, length);
+    }
+
+    /**
+     * Matches a complete message against the pending requests.
+     *
+     * @param content The message content.
+     * @param sent True if the message was written to the language server, false if it was read from it.
+     */
+    private void messageCompleted(byte[] content, boolean sent) {
+        String id = null;
+        String method = null;
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("id".equals(name) && reader.peek() != JsonToken.NULL) {
+                    id = reader.nextString();
+                } else if ("method".equals(name)) {
+                    method = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not a JSON-RPC message. It is not tracked.
+            return;
+        }
+
+        if (id == null) {
+            // Notifications have no response.
+            return;
+        }
+
+        Map<String, PendingRequest> requests = sent ? clientRequests : serverRequests;
+        Map<String, PendingRequest> responded = sent ? serverRequests : clientRequests;
+        long now = System.nanoTime();
+        if (method != null) {
+            synchronized (requests) {
+                requests.put(id, new PendingRequest(method, now));
+            }
+        } else {
+            PendingRequest request;
+            synchronized (responded) {
+                request = responded.remove(id);
+            }
+            if (request != null) {
+                Direction direction = sent ? Direction.SERVER_TO_CLIENT : Direction.CLIENT_TO_SERVER;
+                metrics.record(server, direction, request.method, (now - request.startNanos) / 1000000);
+            }
+        }
+    }
+
+    /**
+     * Returns a map of pending requests that drops its oldest request when it is full.
+     *
+     * @return A map of pending requests.
+     */
+    private static Map<String, PendingRequest> createPendingMap() {
+        return new LinkedHashMap<String, PendingRequest>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PendingRequest> eldest) {
+                return size() > MAX_PENDING_REQUESTS;
+            }
+        };
+    }
+
+    /**
+     * Splitter of a byte stream into JSON-RPC messages. Message contents are only kept while the metrics are recorded.
+     */
+    private class FrameParser {
+
+        private final boolean sent;
+        private final StringBuilder header = new StringBuilder();
+        private ByteArrayOutputStream content;
+
+        /** Number of content bytes still expected, or -1 while reading the header. */
+        private int remaining = -1;
+
+        FrameParser(boolean sent) {
+            this.sent = sent;
+        }
+
+        synchronized void feed(byte[] bytes, int offset, int length) {
+            int end = offset + length;
+            int i = offset;
+            while (i < end) {
+                if (remaining < 0) {
+                    header.append((char) (bytes[i++] & 0xff));
+                    if (isHeaderEnd()) {
+                        startContent();
+                    } else if (header.length() > MAX_HEADER_LENGTH) {
+                        header.setLength(0);
+                    }
+                } else {
+                    int count = Math.min(remaining, end - i);
+                    if (content != null) {
+                        content.write(bytes, i, count);
+                    }
+                    i += count;
+                    remaining -= count;
+                }
+
+                if (remaining == 0) {
+                    endContent();
+                }
+            }
+        }
+
+        private boolean isHeaderEnd() {
+            int length = header.length();
+            return length >= 4 && header.charAt(length - 4) == '\r' && header.charAt(length - 3) == '\n'
+                    && header.charAt(length - 2) == '\r' && header.charAt(length - 1) == '\n';
+        }
+
+        private void startContent() {
+            remaining = 0;
+            for (String line : header.toString().split("\r\n")) {
+                if (line.toLowerCase().startsWith(CONTENT_LENGTH)) {
+                    try {
+                        remaining = Integer.parseInt(line.substring(CONTENT_LENGTH.length()).trim());
+                    } catch (NumberFormatException e) {
+                        remaining = 0;
+                    }
+                }
+            }
+            header.setLength(0);
+            content = metrics.isRecording() ? new ByteArrayOutputStream(Math.max(remaining, 0)) : null;
+        }
+
+        private void endContent() {
+            if (content != null) {
+                messageCompleted(content.toByteArray(), sent);
+            }
+            content = null;
+            remaining = -1;
+        }
+    }
+
+    /**
+     * Request awaiting a response.
+     */
+    private static class PendingRequest {
+
+        private final String method;
+        private final long startNanos;
+
+        PendingRequest(String method, long startNanos) {
+            this.method = method;
+            this.startNanos = startNanos;
+        }
+    }
+}
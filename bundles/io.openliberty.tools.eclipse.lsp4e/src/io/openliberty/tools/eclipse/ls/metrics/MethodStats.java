@@ -0,0 +1,136 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.metrics;
+
+/**
+ * Latency statistics of the requests of a JSON-RPC method exchanged with a language server. Latencies are counted in a fixed set of
+ * buckets, from which the percentiles are estimated.
+ */
+public class MethodStats {
+
+    /** Direction of a request. */
+    public enum Direction {
+        /** Request sent by the IDE and answered by the language server. */
+        CLIENT_TO_SERVER("Client to server"),
+        /** Request sent by the language server and answered by the IDE's language client. */
+        SERVER_TO_CLIENT("Server to client");
+
+        private final String label;
+
+        Direction(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /** Upper bounds, in milliseconds, of the latency buckets. The last bucket holds all the higher latencies. */
+    static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, Long.MAX_VALUE };
+
+    private final String server;
+    private final Direction direction;
+    private final String method;
+    private final long[] buckets = new long[BUCKET_BOUNDS.length];
+    private long count;
+    private long totalMillis;
+    private long maxMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param server The language server label.
+     * @param direction The request direction.
+     * @param method The JSON-RPC method.
+     */
+    MethodStats(String server, Direction direction, String method) {
+        this.server = server;
+        this.direction = direction;
+        this.method = method;
+    }
+
+    /**
+     * Records the latency of a request.
+     *
+     * @param latencyMillis The latency in milliseconds.
+     */
+    synchronized void record(long latencyMillis) {
+        int bucket = 0;
+        while (latencyMillis > BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket]++;
+        count++;
+        totalMillis += latencyMillis;
+        maxMillis = Math.max(maxMillis, latencyMillis);
+    }
+
+    public String getServer() {
+        return server;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMeanMillis() {
+        return (count > 0) ? totalMillis / count : 0;
+    }
+
+    public synchronized long getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Returns the estimated latency percentile: the upper bound of the bucket that holds the percentile, or the maximum latency if
+     * it is lower.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     *
+     * @return The estimated latency percentile in milliseconds.
+     */
+    public synchronized long getPercentileMillis(int percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i];
+            if (cumulative >= rank) {
+                return Math.min(BUCKET_BOUNDS[i], maxMillis);
+            }
+        }
+
+        return maxMillis;
+    }
+
+    /**
+     * Returns the bucket counts.
+     *
+     * @return A copy of the bucket counts, in the order of {@link #BUCKET_BOUNDS}.
+     */
+    synchronized long[] getBuckets() {
+        return buckets.clone();
+    }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.plugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the JVM options that use a dynamic class data sharing (CDS) archive for a language server JVM.
+ *
+ * One archive is kept per language server under the plugin's state location. The archive name holds a key computed from the JDK
+ * and the server's classpath, so that a new archive is created when the JDK or the server jars change. Archives with an out of date
+ * key are deleted. The archive is created when the first JVM that runs without it ends, and it is used by the JVMs started after
+ * that.
+ */
+public final class ClassDataSharing {
+
+    /** System property that, when set to true, starts the language server JVMs without a CDS archive. */
+    public static final String DISABLE_PROPERTY = "io.openliberty.tools.eclipse.ls.disableCDS";
+
+    /** Name of the folder holding the archives, under the plugin's state location. */
+    public static final String ARCHIVE_FOLDER_NAME = "cds";
+
+    /** Archive file extension. */
+    private static final String ARCHIVE_EXTENSION = ".jsa";
+
+    /** First JDK feature release that can create and refresh an archive on its own. */
+    private static final int AUTO_CREATE_FEATURE_VERSION = 19;
+
+    /**
+     * Constructor.
+     */
+    private ClassDataSharing() {
+    }
+
+    /**
+     * Returns the JVM options that use, or create, the CDS archive of the input language server.
+     *
+     * @param name The name of the archive, which identifies the language server.
+     * @param classpath The classpath entries of the language server JVM.
+     *
+     * @return The JVM options, or an empty list if CDS is disabled, the archive location cannot be determined, or the classpath is
+     *         not made of jar files only.
+     */
+    public static List<String> getArchiveOptions(String name, String... classpath) {
+        if (Boolean.getBoolean(DISABLE_PROPERTY) || !isCacheable(classpath)) {
+            return Collections.emptyList();
+        }
+
+        LibertyToolsLSPlugin plugin = LibertyToolsLSPlugin.getDefault();
+        if (plugin == null) {
+            return Collections.emptyList();
+        }
+
+        File folder = plugin.getStateLocation().append(ARCHIVE_FOLDER_NAME).toFile();
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+            return Collections.emptyList();
+        }
+
+        String archiveName = name + "-" + computeKey(classpath) + ARCHIVE_EXTENSION;
+        deleteStaleArchives(folder, name, archiveName);
+        File archive = new File(folder, archiveName);
+
+        List<String> options = new ArrayList<String>();
+        if (Runtime.version().feature() >= AUTO_CREATE_FEATURE_VERSION) {
+            // The JVM validates the archive, and recreates it at exit if it is missing or unusable.
+            options.add("-XX:+AutoCreateSharedArchive");
+            options.add("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+        } else if (archive.isFile()) {
+            options.add("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+        } else {
+            options.add("-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath());
+        }
+
+        return options;
+    }
+
+    /**
+     * Returns whether or not the classes of the input classpath can be archived. The key of an archive only detects changes to
+     * files: the size and modification time of a directory do not change when the classes inside it change, so an archive of a
+     * classpath holding a directory, such as an unpacked bundle, could be reused after its classes changed.
+     *
+     * @param classpath The classpath entries. Each entry may hold several paths separated by the path separator.
+     *
+     * @return True if every classpath entry is an existing file. False, otherwise.
+     */
+    static boolean isCacheable(String... classpath) {
+        for (String entry : classpath) {
+            for (String path : entry.split(File.pathSeparator)) {
+                if (!new File(path).isFile()) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the key of an archive: a hash of the JDK location and version, and of the path, size, and modification time of each
+     * classpath entry.
+     *
+     * @param classpath The classpath entries. Each entry may hold several paths separated by the path separator.
+     *
+     * @return The key of the archive.
+     */
+    static String computeKey(String... classpath) {
+        StringBuilder key = new StringBuilder();
+        key.append(System.getProperty("java.home")).append('|').append(Runtime.version());
+        for (String entry : classpath) {
+            for (String path : entry.split(File.pathSeparator)) {
+                File file = new File(path);
+                key.append('|').append(file.getAbsolutePath()).append(':').append(file.length()).append(':')
+                        .append(file.lastModified());
+            }
+        }
+
+        return Integer.toHexString(key.toString().hashCode());
+    }
+
+    /**
+     * Deletes the archives of the input language server, except the current one.
+     *
+     * @param folder The folder holding the archives.
+     * @param name The name of the archive, which identifies the language server.
+     * @param currentArchiveName The file name of the current archive.
+     */
+    private static void deleteStaleArchives(File folder, String name, String currentArchiveName) {
+        File[] archives = folder.listFiles((dir, fileName) -> fileName.startsWith(name + "-") && fileName.endsWith(ARCHIVE_EXTENSION)
+                && !fileName.equals(currentArchiveName));
+        if (archives == null) {
+            return;
+        }
+
+        for (File archive : archives) {
+            if (!archive.delete()) {
+                archive.deleteOnExit();
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.plugin;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Executor of the JDT-backed requests that the language servers send to the Liberty Tools language clients.
+ *
+ * The requests run on a small, bounded set of daemon threads instead of the common fork-join pool, so that slow JDT searches cannot
+ * starve the other users of the common pool. Idle threads end after a minute. Queued interactive requests, such as completion and
+ * hover, run before queued background requests, such as diagnostics and code lenses. A request submitted with a supersede key
+ * cancels the pending request submitted with the same key, so that only the latest diagnostics of a document are computed.
+ */
+public class JDTRequestExecutor {
+
+    /** Request priorities, from the highest to the lowest. */
+    public enum Priority {
+        /** Requests the user waits for, such as completion and hover. */
+        INTERACTIVE,
+        /** Requests computed in the background, such as diagnostics and code lenses. */
+        BACKGROUND
+    }
+
+    /** Number of seconds after which an idle thread ends. */
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /** The instance of this class. */
+    private static JDTRequestExecutor instance;
+
+    /** The thread pool running the requests. */
+    private final ThreadPoolExecutor threadPool;
+
+    /** Submission counter, which keeps requests of the same priority in submission order. */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** The pending requests submitted with a supersede key, keyed by supersede key. */
+    private final Map<String, CompletableFuture<?>> pendingBySupersedeKey = new ConcurrentHashMap<String, CompletableFuture<?>>();
+
+    /**
+     * Constructor. The language clients use the executor returned by {@link #getInstance()}.
+     *
+     * @param threads The number of threads running the requests.
+     */
+    public JDTRequestExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        threadPool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>(), runnable -> {
+                    Thread thread = new Thread(runnable, "Liberty Tools JDT request " + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized JDTRequestExecutor getInstance() {
+        if (instance == null) {
+            instance = new JDTRequestExecutor(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+        }
+
+        return instance;
+    }
+
+    /**
+     * Stops the executor returned by {@link #getInstance()}, if it was created. Queued requests are not run.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Stops this executor. Queued requests are not run, and running requests are interrupted.
+     */
+    public void close() {
+        threadPool.shutdownNow();
+    }
+
+    /**
+     * Runs the input code asynchronously with the input priority. Cancelling the returned future makes the cancel checker passed to
+     * the code throw a {@link CancellationException}.
+     *
+     * @param <R> The result type.
+     * @param priority The request priority.
+     * @param code The code to run.
+     *
+     * @return The future result of the code.
+     */
+    public <R> CompletableFuture<R> computeAsync(Priority priority, Function<CancelChecker, R> code) {
+        return computeAsync(priority, null, code);
+    }
+
+    /**
+     * Runs the input code asynchronously with the input priority, cancelling the pending request submitted with the same supersede
+     * key. Cancelling the returned future makes the cancel checker passed to the code throw a {@link CancellationException}.
+     *
+     * @param <R> The result type.
+     * @param priority The request priority.
+     * @param supersedeKey The key of the requests superseded by this one, or null if this request supersedes no other request.
+     * @param code The code to run.
+     *
+     * @return The future result of the code.
+     */
+    public <R> CompletableFuture<R> computeAsync(Priority priority, String supersedeKey, Function<CancelChecker, R> code) {
+        CompletableFuture<R> future = new CompletableFuture<R>();
+        if (supersedeKey != null) {
+            CompletableFuture<?> superseded = pendingBySupersedeKey.put(supersedeKey, future);
+            if (superseded != null) {
+                superseded.cancel(false);
+            }
+            future.whenComplete((result, throwable) -> pendingBySupersedeKey.remove(supersedeKey, future));
+        }
+
+        CancelChecker cancelChecker = () -> {
+            if (future.isCancelled()) {
+                throw new CancellationException();
+            }
+        };
+
+        threadPool.execute(new PrioritizedTask(priority, sequence.getAndIncrement(), () -> {
+            // The request was cancelled or superseded while it was queued.
+            if (future.isDone()) {
+                return;
+            }
+
+            try {
+                future.complete(code.apply(cancelChecker));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }));
+
+        return future;
+    }
+
+    /**
+     * Task ordered by priority, then by submission order.
+     */
+    private static class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+        private final Priority priority;
+        private final long sequence;
+        private final Runnable runnable;
+
+        PrioritizedTask(Priority priority, long sequence, Runnable runnable) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int comparison = priority.compareTo(other.priority);
+            return (comparison != 0) ? comparison : Long.compare(sequence, other.sequence);
+        }
+    }
+}
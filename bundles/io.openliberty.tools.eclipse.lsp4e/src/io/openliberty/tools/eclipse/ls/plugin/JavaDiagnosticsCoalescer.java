@@ -0,0 +1,290 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.plugin;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import com.google.gson.Gson;
+
+import io.openliberty.tools.eclipse.ls.plugin.JDTRequestExecutor.Priority;
+
+/**
+ * Coalesces the Java diagnostics requests that the Jakarta EE and MicroProfile language servers send for the same documents.
+ *
+ * Requests are keyed by server and by all of their parameters, serialized as JSON, so that requests with different settings or
+ * document formats are never answered with each other's diagnostics. The version of a set of documents combines the contents of
+ * their open working copies, or the modification stamps of their files, with a counter of the workspace changes and the contents
+ * of the other working copies that have unsaved changes, since diagnostics also depend on the other files of the workspace. A request for documents
+ * whose version did not change since the last diagnostics were computed is answered with those diagnostics. A request with the same
+ * version as the pending request for the same documents shares its result. A request with a new version cancels the pending one.
+ * Each requester gets its own copy of the pending request's future, so that cancelling it only cancels that requester's wait.
+ * Changes that only affect markers are not counted as workspace changes, since the diagnostics do not depend on them.
+ */
+public class JavaDiagnosticsCoalescer implements IResourceChangeListener {
+
+    /** Maximum number of cached diagnostics results. */
+    private static final int MAX_CACHED_RESULTS = 200;
+
+    /** The instance of this class. */
+    private static JavaDiagnosticsCoalescer instance;
+
+    /** Serializes the request parameters into keys. */
+    private static final Gson GSON = new Gson();
+
+    /** Counter of the workspace changes. */
+    private final AtomicLong workspaceChanges = new AtomicLong();
+
+    /** The pending requests, keyed by server and request parameters. */
+    private final Map<String, PendingRequest> pendingRequests = new HashMap<String, PendingRequest>();
+
+    /** The last computed diagnostics, keyed by server and request parameters, in least recently used order. */
+    private final Map<String, CachedResult> cachedResults = new LinkedHashMap<String, CachedResult>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > MAX_CACHED_RESULTS;
+        }
+    };
+
+    /**
+     * Constructor.
+     */
+    private JavaDiagnosticsCoalescer() {
+    }
+
+    /**
+     * Returns an instance of this class. Its workspace listener is registered the first time.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized JavaDiagnosticsCoalescer getInstance() {
+        if (instance == null) {
+            instance = new JavaDiagnosticsCoalescer();
+            ResourcesPlugin.getWorkspace().addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Unregisters the workspace listener, if the instance was created.
+     */
+    public static synchronized void dispose() {
+        if (instance != null) {
+            ResourcesPlugin.getWorkspace().removeResourceChangeListener(instance);
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the diagnostics of the input documents, from the cache, from the pending request with the same version, or computed
+     * with a background priority.
+     *
+     * @param serverId The identifier of the language server requesting the diagnostics.
+     * @param uris The document URIs.
+     * @param params The request parameters, including the document URIs and any settings affecting the diagnostics.
+     * @param compute The code computing the diagnostics.
+     *
+     * @return The future diagnostics.
+     */
+    public CompletableFuture<List<PublishDiagnosticsParams>> getDiagnostics(String serverId, List<String> uris, Object params,
+            Function<CancelChecker, List<PublishDiagnosticsParams>> compute) {
+        String key = serverId + ":" + GSON.toJson(params);
+        String version = computeVersion(uris);
+
+        synchronized (this) {
+            if (version != null) {
+                CachedResult cachedResult = cachedResults.get(key);
+                if (cachedResult != null && cachedResult.version.equals(version)) {
+                    return CompletableFuture.completedFuture(cachedResult.diagnostics);
+                }
+
+                PendingRequest pendingRequest = pendingRequests.get(key);
+                if (pendingRequest != null && version.equals(pendingRequest.version) && !pendingRequest.future.isDone()) {
+                    // Cancelling the copy does not cancel the shared request.
+                    return pendingRequest.future.copy();
+                }
+            }
+
+            // The pending request for the same documents, if any, is superseded.
+            CompletableFuture<List<PublishDiagnosticsParams>> future = JDTRequestExecutor.getInstance().computeAsync(Priority.BACKGROUND,
+                    key, compute);
+            PendingRequest pendingRequest = new PendingRequest(version, future);
+            pendingRequests.put(key, pendingRequest);
+            future.whenComplete((diagnostics, throwable) -> completed(key, pendingRequest, diagnostics, throwable));
+
+            // The original future is only cancelled by a superseding request.
+            return future.copy();
+        }
+    }
+
+    /**
+     * Caches the result of a completed request.
+     *
+     * @param key The key of the request.
+     * @param pendingRequest The completed request.
+     * @param diagnostics The computed diagnostics.
+     * @param throwable The failure of the request, or null if it succeeded.
+     */
+    private synchronized void completed(String key, PendingRequest pendingRequest, List<PublishDiagnosticsParams> diagnostics,
+            Throwable throwable) {
+        if (pendingRequests.get(key) == pendingRequest) {
+            pendingRequests.remove(key);
+        }
+
+        if (throwable == null && pendingRequest.version != null) {
+            cachedResults.put(key, new CachedResult(pendingRequest.version, diagnostics));
+        }
+    }
+
+    /**
+     * Returns the version of the input documents, which includes the contents of all the working copies with unsaved changes.
+     *
+     * @param uris The document URIs.
+     *
+     * @return The version of the input documents, or null if one of the documents is not a file of the workspace.
+     */
+    private String computeVersion(List<String> uris) {
+        StringBuilder version = new StringBuilder();
+        version.append(workspaceChanges.get());
+        for (String uri : uris) {
+            IFile file = findFile(uri);
+            if (file == null) {
+                return null;
+            }
+
+            IJavaElement element = JavaCore.create(file);
+            if (element instanceof ICompilationUnit && ((ICompilationUnit) element).isWorkingCopy()) {
+                try {
+                    String source = ((ICompilationUnit) element).getSource();
+                    version.append("|wc:").append(source.length()).append(':').append(source.hashCode());
+                    continue;
+                } catch (JavaModelException e) {
+                    return null;
+                }
+            }
+            version.append("|file:").append(file.getModificationStamp());
+        }
+
+        // Unsaved edits in other documents are not workspace changes, but the diagnostics may depend on them.
+        for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+            try {
+                if (workingCopy.hasUnsavedChanges()) {
+                    String source = workingCopy.getSource();
+                    version.append("|dirty:").append(workingCopy.getPath()).append(':').append(source.length()).append(':')
+                            .append(source.hashCode());
+                }
+            } catch (JavaModelException e) {
+                return null;
+            }
+        }
+
+        return version.toString();
+    }
+
+    /**
+     * Returns the workspace file of the input URI.
+     *
+     * @param uri The document URI.
+     *
+     * @return The workspace file of the input URI, or null if there is none.
+     */
+    private static IFile findFile(String uri) {
+        try {
+            IFile[] files = ResourcesPlugin.getWorkspace().getRoot().findFilesForLocationURI(new URI(uri));
+            return (files.length > 0) ? files[0] : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        IResourceDelta delta = event.getDelta();
+        if (delta == null || hasNonMarkerChange(delta)) {
+            workspaceChanges.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns whether or not the input delta, or one of its descendants, holds a change other than a marker change.
+     *
+     * @param delta The resource delta.
+     *
+     * @return True if the input delta, or one of its descendants, holds a change other than a marker change. False, otherwise.
+     */
+    private static boolean hasNonMarkerChange(IResourceDelta delta) {
+        if (delta.getKind() != IResourceDelta.CHANGED || (delta.getFlags() & ~IResourceDelta.MARKERS) != 0) {
+            return true;
+        }
+
+        for (IResourceDelta child : delta.getAffectedChildren()) {
+            if (hasNonMarkerChange(child)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Pending diagnostics request.
+     */
+    private static class PendingRequest {
+
+        private final String version;
+        private final CompletableFuture<List<PublishDiagnosticsParams>> future;
+
+        PendingRequest(String version, CompletableFuture<List<PublishDiagnosticsParams>> future) {
+            this.version = version;
+            this.future = future;
+        }
+    }
+
+    /**
+     * Computed diagnostics.
+     */
+    private static class CachedResult {
+
+        private final String version;
+        private final List<PublishDiagnosticsParams> diagnostics;
+
+        CachedResult(String version, List<PublishDiagnosticsParams> diagnostics) {
+            this.version = version;
+            this.diagnostics = diagnostics;
+        }
+    }
+}
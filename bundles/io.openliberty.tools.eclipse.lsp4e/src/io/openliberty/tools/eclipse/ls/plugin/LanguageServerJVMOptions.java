@@ -0,0 +1,120 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import io.openliberty.tools.eclipse.ls.preferences.LanguageServerPreferencePage;
+
+/**
+ * Computes the JVM options of the language server processes from the profile selected in the language server preferences.
+ */
+public final class LanguageServerJVMOptions {
+
+    /** Profile that keeps the JVM defaults. */
+    public static final String PROFILE_DEFAULT = "default";
+
+    /** Profile that lowers the memory used by the language servers. */
+    public static final String PROFILE_LOW_MEMORY = "lowMemory";
+
+    /** Profile that lowers the startup time of the language servers. */
+    public static final String PROFILE_FAST_STARTUP = "fastStartup";
+
+    /** Profile that uses the options set individually in the preferences. */
+    public static final String PROFILE_CUSTOM = "custom";
+
+    /** Value that keeps the JVM's default garbage collector. */
+    public static final String GC_DEFAULT = "default";
+
+    /** Value that selects the Serial garbage collector. */
+    public static final String GC_SERIAL = "serial";
+
+    /** Value that selects the G1 garbage collector. */
+    public static final String GC_G1 = "g1";
+
+    /** Maximum heap size, in megabytes, of the low memory profile. */
+    private static final int LOW_MEMORY_MAX_HEAP = 384;
+
+    /**
+     * Constructor.
+     */
+    private LanguageServerJVMOptions() {
+    }
+
+    /**
+     * Returns the JVM options of the language server processes.
+     *
+     * @return The JVM options of the language server processes.
+     */
+    public static List<String> getOptions() {
+        LibertyToolsLSPlugin plugin = LibertyToolsLSPlugin.getDefault();
+        if (plugin == null) {
+            return Collections.emptyList();
+        }
+
+        IPreferenceStore store = plugin.getPreferenceStore();
+        String profile = store.getString(LanguageServerPreferencePage.JVM_PROFILE);
+
+        if (PROFILE_LOW_MEMORY.equals(profile)) {
+            return getOptions(LOW_MEMORY_MAX_HEAP, GC_SERIAL, "1", false);
+        }
+        if (PROFILE_FAST_STARTUP.equals(profile)) {
+            return getOptions(0, GC_SERIAL, "1", false);
+        }
+        if (PROFILE_CUSTOM.equals(profile)) {
+            return getOptions(store.getInt(LanguageServerPreferencePage.MAX_HEAP),
+                    store.getString(LanguageServerPreferencePage.GARBAGE_COLLECTOR),
+                    store.getString(LanguageServerPreferencePage.TIERED_STOP_AT_LEVEL),
+                    store.getBoolean(LanguageServerPreferencePage.STRING_DEDUPLICATION));
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the JVM options matching the input settings. The Serial garbage collector does not support string deduplication, so
+     * string deduplication is not enabled with it. String deduplication selects the G1 garbage collector if no collector is set,
+     * since the JVM picks the Serial garbage collector on small machines.
+     *
+     * @param maxHeap The maximum heap size in megabytes, or 0 to keep the JVM default.
+     * @param garbageCollector The garbage collector: {@link #GC_DEFAULT}, {@link #GC_SERIAL}, or {@link #GC_G1}.
+     * @param tieredStopAtLevel The highest JIT compilation tier, or an empty string to keep all tiers.
+     * @param stringDeduplication Whether or not to enable string deduplication. It is ignored with the Serial garbage collector.
+     *
+     * @return The JVM options matching the input settings.
+     */
+    static List<String> getOptions(int maxHeap, String garbageCollector, String tieredStopAtLevel, boolean stringDeduplication) {
+        List<String> options = new ArrayList<String>();
+        if (maxHeap > 0) {
+            options.add("-Xmx" + maxHeap + "m");
+        }
+        boolean serial = GC_SERIAL.equals(garbageCollector);
+        if (serial) {
+            options.add("-XX:+UseSerialGC");
+        } else if (GC_G1.equals(garbageCollector) || stringDeduplication) {
+            options.add("-XX:+UseG1GC");
+        }
+        if (tieredStopAtLevel != null && !tieredStopAtLevel.isEmpty()) {
+            options.add("-XX:TieredStopAtLevel=" + tieredStopAtLevel);
+        }
+        if (stringDeduplication && !serial) {
+            options.add("-XX:+UseStringDeduplication");
+        }
+
+        return options;
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.plugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.openliberty.tools.eclipse.jakarta.languageserver.JakartaLSConnection;
+import io.openliberty.tools.eclipse.liberty.languageserver.LibertyLSConnection;
+import io.openliberty.tools.eclipse.ls.host.LanguageServerHost;
+import io.openliberty.tools.eclipse.mpls.LibertyMPLSConnection;
+
+/**
+ * Describes the running language server processes started by the IDE, and their resident memory.
+ */
+public final class LanguageServerProcesses {
+
+    /** The labels of the language server processes, keyed by the main class found in their command line. */
+    private static final Map<String, String> LABELS = new LinkedHashMap<String, String>();
+
+    static {
+        LABELS.put(LanguageServerHost.class.getName(), "Shared language server JVM");
+        LABELS.put(LibertyLSConnection.MAIN_CLASS, "Liberty Config Language Server");
+        LABELS.put(JakartaLSConnection.MAIN_CLASS, "Language Server for Jakarta EE");
+        LABELS.put(LibertyMPLSConnection.MAIN_CLASS, "Language Server for MicroProfile");
+    }
+
+    /**
+     * Constructor.
+     */
+    private LanguageServerProcesses() {
+    }
+
+    /**
+     * Returns the label of the language server with the input main class.
+     *
+     * @param mainClass The language server's main class.
+     *
+     * @return The label of the language server, or its main class if it has no label.
+     */
+    public static String getLabel(String mainClass) {
+        return LABELS.getOrDefault(mainClass, mainClass);
+    }
+
+    /**
+     * Returns a description of each running language server process: its label, process id, and resident memory.
+     *
+     * @return A description of each running language server process.
+     */
+    public static List<String> describe() {
+        List<String> descriptions = new ArrayList<String>();
+        ProcessHandle.current().children().forEach(child -> {
+            Optional<String> commandLine = child.info().commandLine();
+            if (commandLine.isEmpty()) {
+                return;
+            }
+
+            for (Map.Entry<String, String> label : LABELS.entrySet()) {
+                if (commandLine.get().contains(label.getKey())) {
+                    long rssKB = getResidentMemoryKB(child.pid());
+                    String memory = (rssKB >= 0) ? (rssKB / 1024) + " MB resident" : "resident memory not available";
+                    descriptions.add(label.getValue() + " (pid " + child.pid() + "): " + memory);
+                    break;
+                }
+            }
+        });
+
+        return descriptions;
+    }
+
+    /**
+     * Returns the resident memory of the input process, read from the proc file system.
+     *
+     * @param pid The process id.
+     *
+     * @return The resident memory of the input process in kilobytes, or -1 if it cannot be read on this platform.
+     */
+    private static long getResidentMemoryKB(long pid) {
+        Path status = Paths.get("/proc", Long.toString(pid), "status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Fall through.
+        }
+
+        return -1;
+    }
+}
@@ -43,6 +43,9 @@ public class LibertyToolsLSPlugin extends AbstractUIPlugin {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		SharedLanguageServerHost.shutdown();
+		JavaDiagnosticsCoalescer.dispose();
+		JDTRequestExecutor.shutdown();
 		plugin = null;
 		super.stop(context);
 	}
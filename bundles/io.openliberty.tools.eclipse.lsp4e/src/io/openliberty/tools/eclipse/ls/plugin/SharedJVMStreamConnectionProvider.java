@@ -0,0 +1,442 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.plugin;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
+
+import io.openliberty.tools.eclipse.ls.metrics.LanguageServerMetrics;
+import io.openliberty.tools.eclipse.ls.metrics.MessageTracker;
+
+/**
+ * Connection provider of a language server that runs in the JVM shared by the Liberty Tools language servers.
+ *
+ * The language server runs in its own JVM, using the commands set by the subclass, if the shared JVM is disabled through the
+ * {@link SharedLanguageServerHost#SEPARATE_JVMS_PROPERTY} system property, or if a debug port is set for the language server.
+ *
+ * A language server that exchanged no message for the idle time set through the {@link #IDLE_TIMEOUT_PROPERTY} system property is
+ * sent the LSP shutdown request, and its connection is closed. A language server that runs in its own JVM is also sent the exit
+ * notification. The exit notification is not sent to a language server in the shared JVM, which ends the server's connection
+ * rather than the JVM. The data the language server sends after the shutdown request, including its response, is not passed to
+ * LSP4E, which did not send the request. LSP4E starts the server again, and reconnects the open documents, the next time the server
+ * is needed.
+ *
+ * The messages exchanged with the language server go through a {@link MessageTracker}, which records request latencies while the
+ * {@link LanguageServerMetrics} are recorded.
+ */
+public abstract class SharedJVMStreamConnectionProvider extends ProcessStreamConnectionProvider {
+
+    /** System property that holds the number of idle minutes after which a language server is stopped. 0 disables idle stops. */
+    public static final String IDLE_TIMEOUT_PROPERTY = "io.openliberty.tools.eclipse.ls.idleTimeoutMinutes";
+
+    /** Default number of idle minutes after which a language server is stopped. */
+    public static final int DEFAULT_IDLE_TIMEOUT_MINUTES = 30;
+
+    /** Number of milliseconds given to a language server to stop after it is sent the shutdown request. */
+    private static final long EXIT_GRACE_MILLIS = 5000;
+
+    /** Number of milliseconds to wait before retrying an idle stop while a message is being written. */
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    /** Id of the shutdown request sent to an idle language server. */
+    private static final String IDLE_SHUTDOWN_REQUEST_ID = "liberty-tools-idle-shutdown";
+
+    /** The connection to the language server in the shared JVM. Null if the language server runs in its own JVM. */
+    private Socket socket;
+
+    /** The input stream of the current connection. */
+    private ActivityInputStream inputStream;
+
+    /** The output stream of the current connection. */
+    private MessageOutputStream outputStream;
+
+    /** The job that stops the language server when it is idle. Null if idle stops are disabled or the server is not started. */
+    private IdleStopJob idleStopJob;
+
+    /** The time of the last message exchanged with the language server. */
+    private volatile long lastActivity;
+
+    /**
+     * Returns the language server's main class.
+     *
+     * @return The language server's main class.
+     */
+    protected abstract String getMainClass();
+
+    /**
+     * Returns the path of the jar holding the language server and its dependencies.
+     *
+     * @return The path of the jar holding the language server and its dependencies.
+     *
+     * @throws IOException If the jar cannot be located.
+     */
+    protected abstract String getServerJarPath() throws IOException;
+
+    /**
+     * Returns whether or not the language server runs in the shared JVM.
+     *
+     * @return True if the language server runs in the shared JVM. False, otherwise.
+     */
+    protected boolean useSharedJVM() {
+        return SharedLanguageServerHost.isEnabled() && System.getProperty(getClass().getName() + ".debugPort") == null;
+    }
+
+    /**
+     * Returns the number of milliseconds without messages after which the language server is stopped.
+     *
+     * @return The number of milliseconds without messages after which the language server is stopped, or 0 if idle stops are disabled.
+     */
+    protected long getIdleTimeoutMillis() {
+        long minutes = Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT_MINUTES);
+        return (minutes > 0) ? Duration.ofMinutes(minutes).toMillis() : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start() throws IOException {
+        logStartupDeferral();
+
+        InputStream in;
+        OutputStream out;
+        if (useSharedJVM()) {
+            try {
+                socket = SharedLanguageServerHost.getInstance().connect(getMainClass(), getServerJarPath());
+            } catch (IOException e) {
+                // The host cannot run language servers on this JVM. Run this server in its own JVM instead.
+                if (SharedLanguageServerHost.isEnabled()) {
+                    throw e;
+                }
+            }
+        }
+        if (socket != null) {
+            in = socket.getInputStream();
+            out = socket.getOutputStream();
+        } else {
+            super.start();
+            in = super.getInputStream();
+            out = super.getOutputStream();
+        }
+
+        String label = LanguageServerProcesses.getLabel(getMainClass());
+        MessageTracker messageTracker = LanguageServerMetrics.getInstance().createTracker(label);
+        inputStream = (in != null) ? new ActivityInputStream(in, messageTracker) : null;
+        outputStream = (out != null) ? new MessageOutputStream(out, messageTracker) : null;
+        lastActivity = System.currentTimeMillis();
+
+        long idleTimeout = getIdleTimeoutMillis();
+        if (idleTimeout > 0 && outputStream != null) {
+            idleStopJob = new IdleStopJob(idleTimeout);
+            idleStopJob.schedule(idleTimeout);
+        }
+    }
+
+    /**
+     * Logs how long after the IDE started the language server was started. The language servers are only started when a document
+     * of a Liberty project, or a Liberty configuration file, is opened.
+     */
+    private void logStartupDeferral() {
+        Optional<Instant> ideStart = ProcessHandle.current().info().startInstant();
+        if (ideStart.isEmpty()) {
+            return;
+        }
+
+        long deferredMillis = Duration.between(ideStart.get(), Instant.now()).toMillis();
+        LibertyToolsLSPlugin.log(new Status(IStatus.INFO, LibertyToolsLSPlugin.getPluginId(),
+                "Language server " + getMainClass() + " was started " + deferredMillis + " ms after the IDE started."));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized InputStream getErrorStream() {
+        // The error output of the shared JVM goes to its log file.
+        return (socket == null) ? super.getErrorStream() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        if (idleStopJob != null) {
+            idleStopJob.cancel();
+            idleStopJob = null;
+        }
+        inputStream = null;
+        outputStream = null;
+
+        closeConnection();
+    }
+
+    /**
+     * Closes the connection to the language server, and ends its JVM if it runs in its own JVM.
+     */
+    private void closeConnection() {
+        if (socket == null) {
+            super.stop();
+            return;
+        }
+
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing to do.
+        }
+        socket = null;
+    }
+
+    /**
+     * Runs a step of the idle stop of the language server.
+     *
+     * @param job The idle stop job.
+     *
+     * @return The number of milliseconds after which the job must run again, or -1 if it is done.
+     */
+    private synchronized long runIdleStop(IdleStopJob job) {
+        // The server was stopped or restarted since the job was scheduled.
+        if (job != idleStopJob) {
+            return -1;
+        }
+
+        if (job.shutdownSent) {
+            LibertyToolsLSPlugin.log(new Status(IStatus.INFO, LibertyToolsLSPlugin.getPluginId(),
+                    "Language server " + getMainClass() + " was stopped after " + Duration.ofMillis(job.idleTimeout).toMinutes()
+                            + " idle minutes. It will be started again when it is needed."));
+            idleStopJob = null;
+            closeConnection();
+            return -1;
+        }
+
+        long idle = System.currentTimeMillis() - lastActivity;
+        if (idle < job.idleTimeout) {
+            return job.idleTimeout - idle;
+        }
+
+        String shutdown = "{\"jsonrpc\":\"2.0\",\"id\":\"" + IDLE_SHUTDOWN_REQUEST_ID + "\",\"method\":\"shutdown\"}";
+        try {
+            // The exit notification would end the shared JVM. Closing the connection ends a server in the shared JVM.
+            boolean written = (socket != null) ? outputStream.writeMessagesIfIdle(shutdown)
+                    : outputStream.writeMessagesIfIdle(shutdown, "{\"jsonrpc\":\"2.0\",\"method\":\"exit\"}");
+            if (!written) {
+                return RETRY_DELAY_MILLIS;
+            }
+        } catch (IOException e) {
+            // The connection is already broken. Close it so that the server is started again when it is needed.
+        }
+
+        job.shutdownSent = true;
+        return EXIT_GRACE_MILLIS;
+    }
+
+    /**
+     * Job that stops the language server after it has been idle for the configured time.
+     */
+    private class IdleStopJob extends Job {
+
+        /** The number of milliseconds without messages after which the language server is stopped. */
+        private final long idleTimeout;
+
+        /** Whether or not the shutdown request was sent to the language server. */
+        private boolean shutdownSent;
+
+        IdleStopJob(long idleTimeout) {
+            super("Liberty Tools language server idle check");
+            this.idleTimeout = idleTimeout;
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            long delay = runIdleStop(this);
+            if (delay >= 0 && !monitor.isCanceled()) {
+                schedule(delay);
+            }
+
+            return Status.OK_STATUS;
+        }
+    }
+
+    /**
+     * Input stream that records the time at which the language server last sent data, and tracks the messages it sent. Once the idle
+     * shutdown request is sent, the remaining data, which holds the response to that request, is dropped until the connection is
+     * closed, and the end of the stream is returned.
+     */
+    private class ActivityInputStream extends FilterInputStream {
+
+        private final MessageTracker tracker;
+
+        /** Whether or not the idle shutdown request was sent to the language server. */
+        private volatile boolean idleShutdownSent;
+
+        ActivityInputStream(InputStream in, MessageTracker tracker) {
+            super(in);
+            this.tracker = tracker;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (idleShutdownSent) {
+                return drain();
+            }
+            int b = super.read();
+            lastActivity = System.currentTimeMillis();
+            if (b >= 0) {
+                tracker.received(new byte[] { (byte) b }, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (idleShutdownSent) {
+                return drain();
+            }
+            int count = super.read(b, off, len);
+            lastActivity = System.currentTimeMillis();
+            if (count > 0) {
+                tracker.received(b, off, count);
+            }
+            return count;
+        }
+
+        /**
+         * Drops the data sent by the language server until the connection is closed.
+         *
+         * @return -1, the end of the stream.
+         */
+        private int drain() {
+            byte[] buffer = new byte[1024];
+            try {
+                while (in.read(buffer) >= 0) {
+                    // The language server is being stopped. LSP4E did not send the shutdown request, so its response is dropped.
+                }
+            } catch (IOException e) {
+                // The connection was closed.
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Output stream that records the time at which data was last sent to the language server, tracks the messages sent to it, and
+     * that can write messages of its own between the messages written by LSP4E. LSP4E flushes the stream after each message, so a
+     * message is being written if data was written since the last flush.
+     */
+    private class MessageOutputStream extends FilterOutputStream {
+
+        /** Whether or not data was written since the last flush. */
+        private boolean pending;
+
+        /** Whether or not the idle stop messages were written. */
+        private boolean stopWritten;
+
+        private final MessageTracker tracker;
+
+        MessageOutputStream(OutputStream out, MessageTracker tracker) {
+            super(out);
+            this.tracker = tracker;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            checkOpen();
+            out.write(b);
+            tracker.sent(new byte[] { (byte) b }, 0, 1);
+            pending = true;
+            lastActivity = System.currentTimeMillis();
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            checkOpen();
+            out.write(b, off, len);
+            tracker.sent(b, off, len);
+            pending = true;
+            lastActivity = System.currentTimeMillis();
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            out.flush();
+            pending = false;
+        }
+
+        /**
+         * Writes the input JSON-RPC messages, unless a message is being written, after which the stream is closed to other writes.
+         *
+         * @param contents The contents of the messages.
+         *
+         * @return True if the messages were written. False, if a message is being written.
+         *
+         * @throws IOException If the messages cannot be written.
+         */
+        synchronized boolean writeMessagesIfIdle(String... contents) throws IOException {
+            if (pending) {
+                return false;
+            }
+
+            stopWritten = true;
+            // The response to the shutdown request can only arrive once the request is written.
+            if (inputStream != null) {
+                inputStream.idleShutdownSent = true;
+            }
+            for (String content : contents) {
+                byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+                out.write(("Content-Length: " + contentBytes.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(contentBytes);
+            }
+            out.flush();
+
+            return true;
+        }
+
+        private void checkOpen() throws IOException {
+            if (stopWritten) {
+                throw new IOException("Language server " + getMainClass() + " was stopped because it was idle.");
+            }
+        }
+    }
+}
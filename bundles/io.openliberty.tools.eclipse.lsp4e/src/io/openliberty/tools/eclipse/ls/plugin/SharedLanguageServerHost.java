@@ -0,0 +1,249 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.plugin;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.ProcessBuilder.Redirect;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+
+import io.openliberty.tools.eclipse.ls.host.LanguageServerHost;
+
+/**
+ * Manages the JVM that hosts the Liberty, Jakarta EE, and MicroProfile language servers.
+ *
+ * The host JVM is started the first time a language server connects, and it is restarted if it ended. Each language server gets its
+ * own loopback connection to the host. The host's standard input is kept open, so that the host ends when Eclipse ends.
+ *
+ * The host relies on a security manager to keep a language server's System.exit call from ending the other servers. JDK 24 and
+ * later do not allow a security manager to be installed, so on those JDKs, or if the host reports that it could not install it,
+ * each language server runs in its own JVM.
+ */
+public class SharedLanguageServerHost {
+
+    /** System property that, when set to true, runs each language server in its own JVM. */
+    public static final String SEPARATE_JVMS_PROPERTY = "io.openliberty.tools.eclipse.ls.separateJVMs";
+
+    /** Host log file name. The host's standard error is appended to it. */
+    public static final String HOST_LOG_FILE_NAME = "language-server-host.log";
+
+    /** First JDK feature release that does not allow a security manager to be installed. */
+    private static final int NO_SECURITY_MANAGER_FEATURE_RELEASE = 24;
+
+    /** The reason why the language servers cannot share a JVM, or null if they can. */
+    private static String unsupportedReason = (Runtime.version().feature() >= NO_SECURITY_MANAGER_FEATURE_RELEASE)
+            ? "Java " + Runtime.version().feature() + " does not allow the System.exit calls of the language servers to be intercepted."
+            : null;
+
+    /** Whether or not the reason why the language servers cannot share a JVM was logged. */
+    private static boolean unsupportedLogged;
+
+    /** The instance of this class. */
+    private static SharedLanguageServerHost instance;
+
+    /** The host process. Null if it was not started. */
+    private Process process;
+
+    /** The port the host listens on. */
+    private int port;
+
+    /**
+     * Constructor.
+     */
+    private SharedLanguageServerHost() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized SharedLanguageServerHost getInstance() {
+        if (instance == null) {
+            instance = new SharedLanguageServerHost();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns whether or not the language servers are hosted in a shared JVM.
+     *
+     * @return True if the language servers are hosted in a shared JVM. False, otherwise.
+     */
+    public static synchronized boolean isEnabled() {
+        if (Boolean.getBoolean(SEPARATE_JVMS_PROPERTY)) {
+            return false;
+        }
+
+        if (unsupportedReason != null) {
+            if (!unsupportedLogged) {
+                unsupportedLogged = true;
+                LibertyToolsLSPlugin.log(new Status(IStatus.INFO, LibertyToolsLSPlugin.getPluginId(),
+                        unsupportedReason + " Each language server runs in its own JVM."));
+            }
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Records that the language servers cannot share a JVM.
+     *
+     * @param reason The reason why the language servers cannot share a JVM.
+     */
+    private static synchronized void setUnsupported(String reason) {
+        unsupportedReason = reason;
+    }
+
+    /**
+     * Ends the host JVM, if it was started.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.stop();
+        }
+    }
+
+    /**
+     * Starts the input language server in the host JVM and returns its connection.
+     *
+     * @param mainClass The language server's main class.
+     * @param jarPath The path of the jar holding the language server and its dependencies.
+     *
+     * @return The connection to the language server.
+     *
+     * @throws IOException If the host cannot be started or the connection cannot be established. If the host cannot run language
+     *         servers on this JVM, {@link #isEnabled()} returns false afterwards.
+     */
+    public Socket connect(String mainClass, String jarPath) throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), getPort());
+        OutputStream out = socket.getOutputStream();
+        out.write((mainClass + "\t" + jarPath + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+
+        return socket;
+    }
+
+    /**
+     * Returns the port the host listens on, starting the host if it is not running.
+     *
+     * @return The port the host listens on.
+     *
+     * @throws IOException If the host cannot be started.
+     */
+    private synchronized int getPort() throws IOException {
+        if (process == null || !process.isAlive()) {
+            start();
+        }
+
+        return port;
+    }
+
+    /**
+     * Starts the host JVM and reads the port it listens on.
+     *
+     * @throws IOException If the host cannot be started.
+     */
+    private void start() throws IOException {
+        List<String> commands = new ArrayList<>();
+        commands.add(computeJavaPath());
+        commands.addAll(LanguageServerJVMOptions.getOptions());
+        commands.add("-Djava.security.manager=allow");
+        Locale currentLocale = Locale.getDefault();
+        commands.add("-Duser.language=" + currentLocale.getLanguage());
+        commands.add("-Duser.country=" + currentLocale.getCountry());
+        String hostClasspath = computeHostClasspath();
+        commands.addAll(ClassDataSharing.getArchiveOptions("langserver-host", hostClasspath));
+        commands.add("-classpath");
+        commands.add(hostClasspath);
+        commands.add(LanguageServerHost.class.getName());
+
+        ProcessBuilder builder = new ProcessBuilder(commands);
+        builder.directory(new File(System.getProperty("user.dir")));
+        LibertyToolsLSPlugin plugin = LibertyToolsLSPlugin.getDefault();
+        if (plugin != null) {
+            builder.redirectError(Redirect.appendTo(plugin.getStateLocation().append(HOST_LOG_FILE_NAME).toFile()));
+        } else {
+            builder.redirectError(Redirect.DISCARD);
+        }
+
+        process = builder.start();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        if (LanguageServerHost.EXIT_TRAP_UNSUPPORTED.equals(line)) {
+            stop();
+            setUnsupported("The language server host JVM cannot intercept the System.exit calls of the language servers.");
+            throw new IOException("The language servers cannot share a JVM on this JVM.");
+        }
+        if (line == null || !line.startsWith(LanguageServerHost.PORT_PREFIX)) {
+            stop();
+            throw new IOException("The language server host JVM did not start. Output: " + line);
+        }
+        port = Integer.parseInt(line.substring(LanguageServerHost.PORT_PREFIX.length()).trim());
+    }
+
+    /**
+     * Ends the host JVM.
+     */
+    private synchronized void stop() {
+        if (process != null) {
+            process.destroy();
+            process = null;
+        }
+    }
+
+    /**
+     * Returns the classpath of the host JVM: the bundle jar, or the bundle's class folder when the bundle is not packaged.
+     *
+     * @return The classpath of the host JVM.
+     *
+     * @throws IOException If the location of the host classes cannot be determined.
+     */
+    private String computeHostClasspath() throws IOException {
+        Optional<File> bundleFile = FileLocator.getBundleFileLocation(LibertyToolsLSPlugin.getDefault().getBundle());
+        if (bundleFile.isPresent() && bundleFile.get().isFile()) {
+            return bundleFile.get().getAbsolutePath();
+        }
+
+        String classResource = "/" + LanguageServerHost.class.getName().replace('.', '/') + ".class";
+        URL url = FileLocator.toFileURL(getClass().getResource(classResource));
+        String classPath = new File(url.getPath()).getAbsolutePath();
+        String packagePath = classResource.replace('/', File.separatorChar);
+
+        return classPath.substring(0, classPath.length() - packagePath.length());
+    }
+
+    private String computeJavaPath() {
+        File f = new File(System.getProperty("java.home"),
+                "bin/java" + (Platform.getOS().equals(Platform.OS_WIN32) ? ".exe" : ""));
+        return f.getAbsolutePath();
+    }
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ls.preferences;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.preference.BooleanFieldEditor;
+import org.eclipse.jface.preference.ComboFieldEditor;
+import org.eclipse.jface.preference.FieldEditor;
+import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.preference.IntegerFieldEditor;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPreferencePage;
+import org.eclipse.ui.preferences.ScopedPreferenceStore;
+
+import io.openliberty.tools.eclipse.ls.plugin.LanguageServerJVMOptions;
+import io.openliberty.tools.eclipse.ls.plugin.LanguageServerProcesses;
+import io.openliberty.tools.eclipse.ls.plugin.LibertyToolsLSPlugin;
+
+/**
+ * Preference page holding the JVM options of the language server processes.
+ */
+public class LanguageServerPreferencePage extends FieldEditorPreferencePage implements IWorkbenchPreferencePage {
+
+    /** Preference key for the JVM options profile. */
+    public static final String JVM_PROFILE = "LSJVMPROFILE";
+
+    /** Preference key for the maximum heap size, in megabytes, used by the custom profile. 0 keeps the JVM default. */
+    public static final String MAX_HEAP = "LSMAXHEAP";
+
+    /** Preference key for the garbage collector used by the custom profile. */
+    public static final String GARBAGE_COLLECTOR = "LSGC";
+
+    /** Preference key for the highest JIT compilation tier used by the custom profile. Empty keeps all tiers. */
+    public static final String TIERED_STOP_AT_LEVEL = "LSTIEREDSTOPATLEVEL";
+
+    /** Preference key stating whether the custom profile enables string deduplication. */
+    public static final String STRING_DEDUPLICATION = "LSSTRINGDEDUP";
+
+    ComboFieldEditor profileFE;
+    IntegerFieldEditor maxHeapFE;
+    ComboFieldEditor garbageCollectorFE;
+    ComboFieldEditor tieredStopAtLevelFE;
+    BooleanFieldEditor stringDeduplicationFE;
+
+    /** Labels showing the resident memory of the language server processes. */
+    private Composite processesComposite;
+
+    /** The selected profile. */
+    private String selectedProfile;
+
+    /** The selected garbage collector of the custom profile. */
+    private String selectedGarbageCollector;
+
+    public LanguageServerPreferencePage() {
+
+        super(GRID);
+    }
+
+    @Override
+    public void createFieldEditors() {
+
+        profileFE = new ComboFieldEditor(JVM_PROFILE, "JVM options &profile:",
+                new String[][] { { "Default", LanguageServerJVMOptions.PROFILE_DEFAULT },
+                        { "Low memory", LanguageServerJVMOptions.PROFILE_LOW_MEMORY },
+                        { "Fast startup", LanguageServerJVMOptions.PROFILE_FAST_STARTUP },
+                        { "Custom", LanguageServerJVMOptions.PROFILE_CUSTOM } },
+                getFieldEditorParent());
+
+        maxHeapFE = new IntegerFieldEditor(MAX_HEAP, "&Maximum heap size in MB (0 for the JVM default):", getFieldEditorParent());
+        maxHeapFE.setValidRange(0, 65536);
+        garbageCollectorFE = new ComboFieldEditor(GARBAGE_COLLECTOR, "&Garbage collector:",
+                new String[][] { { "JVM default", LanguageServerJVMOptions.GC_DEFAULT },
+                        { "Serial", LanguageServerJVMOptions.GC_SERIAL }, { "G1", LanguageServerJVMOptions.GC_G1 } },
+                getFieldEditorParent());
+        tieredStopAtLevelFE = new ComboFieldEditor(TIERED_STOP_AT_LEVEL, "&JIT compilation:",
+                new String[][] { { "All tiers", "" }, { "C1 only (-XX:TieredStopAtLevel=1)", "1" } }, getFieldEditorParent());
+        stringDeduplicationFE = new BooleanFieldEditor(STRING_DEDUPLICATION, "Enable &string deduplication (not with the Serial collector)",
+                getFieldEditorParent());
+
+        addField(profileFE);
+        addField(maxHeapFE);
+        addField(garbageCollectorFE);
+        addField(tieredStopAtLevelFE);
+        addField(stringDeduplicationFE);
+    }
+
+    @Override
+    protected Control createContents(Composite parent) {
+        Composite composite = new Composite(parent, SWT.NONE);
+        GridLayout layout = new GridLayout(1, false);
+        layout.marginWidth = 0;
+        layout.marginHeight = 0;
+        composite.setLayout(layout);
+
+        super.createContents(composite);
+
+        Group group = new Group(composite, SWT.NONE);
+        group.setText("Language server processes");
+        group.setLayout(new GridLayout(1, false));
+        group.setLayoutData(new GridData(SWT.FILL, SWT.TOP, true, false));
+
+        processesComposite = new Composite(group, SWT.NONE);
+        processesComposite.setLayout(new GridLayout(1, false));
+        processesComposite.setLayoutData(new GridData(SWT.FILL, SWT.TOP, true, false));
+
+        Button refreshButton = new Button(group, SWT.PUSH);
+        refreshButton.setText("&Refresh");
+        refreshButton.addListener(SWT.Selection, event -> refreshProcesses());
+
+        refreshProcesses();
+
+        return composite;
+    }
+
+    @Override
+    protected void initialize() {
+        super.initialize();
+        selectedProfile = getPreferenceStore().getString(JVM_PROFILE);
+        selectedGarbageCollector = getPreferenceStore().getString(GARBAGE_COLLECTOR);
+        updateCustomFieldsEnablement();
+    }
+
+    @Override
+    protected void performDefaults() {
+        super.performDefaults();
+        selectedProfile = LanguageServerJVMOptions.PROFILE_DEFAULT;
+        selectedGarbageCollector = LanguageServerJVMOptions.GC_DEFAULT;
+        updateCustomFieldsEnablement();
+    }
+
+    @Override
+    public void init(IWorkbench workbench) {
+        IPreferenceStore store = new ScopedPreferenceStore(InstanceScope.INSTANCE, LibertyToolsLSPlugin.PLUGIN_ID);
+        store.setDefault(JVM_PROFILE, LanguageServerJVMOptions.PROFILE_DEFAULT);
+        store.setDefault(GARBAGE_COLLECTOR, LanguageServerJVMOptions.GC_DEFAULT);
+        setPreferenceStore(store);
+        setDescription(
+                "Select the JVM options used by the language server processes. The Low memory profile uses a small heap, the Serial garbage collector, and C1 compilation only. The Fast startup profile uses the Serial garbage collector and C1 compilation only. The Custom profile uses the options below. Changes apply the next time the language servers are started.");
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent event) {
+        if (FieldEditor.VALUE.equals(event.getProperty())) {
+            if (event.getSource() == profileFE) {
+                selectedProfile = (String) event.getNewValue();
+                updateCustomFieldsEnablement();
+            } else if (event.getSource() == garbageCollectorFE) {
+                selectedGarbageCollector = (String) event.getNewValue();
+                updateCustomFieldsEnablement();
+            }
+        }
+
+        super.propertyChange(event);
+    }
+
+    /**
+     * Enables the custom profile fields if the selected profile is the custom profile. String deduplication is disabled with the
+     * Serial garbage collector, which does not support it.
+     */
+    private void updateCustomFieldsEnablement() {
+        boolean custom = LanguageServerJVMOptions.PROFILE_CUSTOM.equals(selectedProfile);
+        maxHeapFE.setEnabled(custom, getFieldEditorParent());
+        garbageCollectorFE.setEnabled(custom, getFieldEditorParent());
+        tieredStopAtLevelFE.setEnabled(custom, getFieldEditorParent());
+        stringDeduplicationFE.setEnabled(custom && !LanguageServerJVMOptions.GC_SERIAL.equals(selectedGarbageCollector),
+                getFieldEditorParent());
+    }
+
+    /**
+     * Shows the resident memory of the running language server processes.
+     */
+    private void refreshProcesses() {
+        for (Control child : processesComposite.getChildren()) {
+            child.dispose();
+        }
+
+        List<String> descriptions = LanguageServerProcesses.describe();
+        if (descriptions.isEmpty()) {
+            descriptions = List.of("No language server process is running.");
+        }
+
+        for (String description : descriptions) {
+            Label label = new Label(processesComposite, SWT.NONE);
+            label.setText(description);
+        }
+
+        processesComposite.getParent().layout(true, true);
+    }
+}
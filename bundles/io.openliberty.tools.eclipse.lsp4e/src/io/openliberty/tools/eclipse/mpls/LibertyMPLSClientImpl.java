@@ -23,7 +23,9 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4e.LanguageClientImpl;
 import org.eclipse.lsp4j.CodeAction;
@@ -33,7 +35,6 @@ import org.eclipse.lsp4j.Hover;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
 import org.eclipse.lsp4mp.commons.JavaCursorContextResult;
 import org.eclipse.lsp4mp.commons.JavaFileInfo;
@@ -55,12 +56,14 @@ import org.eclipse.lsp4mp.commons.utils.JSONUtility;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.core.MicroProfileCorePlugin;
 import org.eclipse.lsp4mp.jdt.core.ProjectLabelManager;
-import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
 import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
 import org.eclipse.lsp4mp.jdt.internal.core.ls.JDTUtilsLSImpl;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
 
+import io.openliberty.tools.eclipse.ls.plugin.JDTRequestExecutor;
+import io.openliberty.tools.eclipse.ls.plugin.JDTRequestExecutor.Priority;
+import io.openliberty.tools.eclipse.ls.plugin.JavaDiagnosticsCoalescer;
 import io.openliberty.tools.eclipse.ls.plugin.LibertyToolsLSPlugin;
 
 /**
@@ -73,6 +76,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
     private static IMicroProfilePropertiesChangedListener SINGLETON_LISTENER;
 
     private IMicroProfilePropertiesChangedListener listener = event -> {
+        MicroProfileProjectInfoCache.getInstance().propertiesChanged(event);
         ((MicroProfileLanguageServerAPI) getLanguageServer()).propertiesChanged(event);
     };
 
@@ -86,20 +90,28 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
-            final MicroProfileProjectInfo[] projectInfo = new MicroProfileProjectInfo[1];
-            Job job = Job.create("MicroProfile properties collector", (ICoreRunnable) monitor -> {
-                projectInfo[0] = PropertiesManager.getInstance().getMicroProfileProjectInfo(params, JDTUtilsLSImpl.getInstance(), monitor);
-            });
-            job.schedule();
-            try {
-                job.join();
-            } catch (InterruptedException e) {
-                LibertyToolsLSPlugin.logException(e.getLocalizedMessage(), e);
+        // The future is completed by the job, so that no thread is blocked while the project is scanned.
+        CompletableFuture<MicroProfileProjectInfo> future = new CompletableFuture<MicroProfileProjectInfo>();
+        Job job = Job.create("MicroProfile properties collector", (ICoreRunnable) monitor -> {
+            future.complete(MicroProfileProjectInfoCache.getInstance().getProjectInfo(params, monitor));
+        });
+        job.addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(IJobChangeEvent event) {
+                // The job failed or was canceled before it completed the future.
+                future.complete(null);
+            }
+        });
+
+        // Cancel the job when the language server cancels the request.
+        future.whenComplete((projectInfo, throwable) -> {
+            if (future.isCancelled()) {
+                job.cancel();
             }
-            return projectInfo[0];
         });
 
+        job.schedule();
+        return future;
     }
 
     private IProgressMonitor getProgressMonitor(CancelChecker cancelChecker) {
@@ -120,7 +132,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<List<? extends CodeLens>> getJavaCodelens(MicroProfileJavaCodeLensParams javaParams) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.BACKGROUND, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 return PropertiesManagerForJava.getInstance().codeLens(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
@@ -133,7 +145,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(MicroProfileJavaDiagnosticsParams javaParams) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JavaDiagnosticsCoalescer.getInstance().getDiagnostics("microprofile", javaParams.getUris(), javaParams, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 return PropertiesManagerForJava.getInstance().diagnostics(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
@@ -146,7 +158,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<List<CodeAction>> getJavaCodeAction(MicroProfileJavaCodeActionParams javaParams) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 return (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams, JDTUtilsLSImpl.getInstance(),
@@ -160,7 +172,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.BACKGROUND, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             return ProjectLabelManager.getInstance().getProjectLabelInfo();
         });
@@ -168,7 +180,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
     
     @Override
     public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(MicroProfileJavaProjectLabelsParams javaParams) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.BACKGROUND, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             return ProjectLabelManager.getInstance().getProjectLabelInfo(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
         });
@@ -176,7 +188,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<JavaFileInfo> getJavaFileInfo(MicroProfileJavaFileInfoParams javaParams) {
-        return CompletableFutures.computeAsync(cancelChecker -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.BACKGROUND, cancelChecker -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             return PropertiesManagerForJava.getInstance().fileInfo(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
         });
@@ -184,7 +196,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<List<MicroProfileDefinition>> getJavaDefinition(MicroProfileJavaDefinitionParams javaParams) {
-        return CompletableFutures.computeAsync(cancelChecker -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, cancelChecker -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 return PropertiesManagerForJava.getInstance().definition(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
@@ -197,7 +209,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<MicroProfileJavaCompletionResult> getJavaCompletion(MicroProfileJavaCompletionParams javaParams) {
-        return CompletableFutures.computeAsync(cancelChecker -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, cancelChecker -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 CompletionList completionList = PropertiesManagerForJava.getInstance().completion(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
@@ -212,7 +224,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<Hover> getJavaHover(MicroProfileJavaHoverParams javaParams) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, (cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
                 return PropertiesManagerForJava.getInstance().hover(javaParams, JDTUtilsLSImpl.getInstance(), monitor);
@@ -225,7 +237,7 @@ public class LibertyMPLSClientImpl extends LanguageClientImpl implements MicroPr
 
     @Override
     public CompletableFuture<CodeAction> resolveCodeAction(CodeAction unresolved) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return JDTRequestExecutor.getInstance().computeAsync(Priority.INTERACTIVE, (cancelChecker) -> {
             try {
                 IProgressMonitor monitor = getProgressMonitor(cancelChecker);
                 // Deserialize CodeAction#data which is a JSonObject to CodeActionResolveData
@@ -35,23 +35,35 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
 
+import io.openliberty.tools.eclipse.ls.plugin.ClassDataSharing;
+import io.openliberty.tools.eclipse.ls.plugin.LanguageServerJVMOptions;
 import io.openliberty.tools.eclipse.ls.plugin.LibertyToolsLSPlugin;
+import io.openliberty.tools.eclipse.ls.plugin.SharedJVMStreamConnectionProvider;
 
-public class LibertyMPLSConnection extends ProcessStreamConnectionProvider {
+public class LibertyMPLSConnection extends SharedJVMStreamConnectionProvider {
+
+	/** The language server's main class. */
+	public static final String MAIN_CLASS = "org.eclipse.lsp4mp.ls.MicroProfileServerLauncher";
 
 	public LibertyMPLSConnection() {
 		List<String> commands = new ArrayList<>();
 		commands.add(computeJavaPath());
+		if (!useSharedJVM()) {
+			commands.addAll(LanguageServerJVMOptions.getOptions());
+		}
 		String debugPortString = System.getProperty(getClass().getName() + ".debugPort");
 		if (debugPortString != null) {
 			commands.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=" + debugPortString);
 		}
 		commands.add("-classpath");
 		try {
-			commands.add(computeClasspath());
-			commands.add("org.eclipse.lsp4mp.ls.MicroProfileServerLauncher");
+			String classpath = computeClasspath();
+			commands.add(classpath);
+			if (!useSharedJVM()) {
+				commands.addAll(ClassDataSharing.getArchiveOptions("mp-langserver", classpath));
+			}
+			commands.add(getMainClass());
 			setCommands(commands);
 			setWorkingDirectory(System.getProperty("user.dir"));			
 		} catch (IOException e) {
@@ -60,6 +72,16 @@ public class LibertyMPLSConnection extends ProcessStreamConnectionProvider {
 		}
 	}
 
+	@Override
+	protected String getMainClass() {
+		return MAIN_CLASS;
+	}
+
+	@Override
+	protected String getServerJarPath() throws IOException {
+		return computeClasspath();
+	}
+
 	private String computeClasspath() throws IOException {
 		StringBuilder builder = new StringBuilder();
 		URL url = FileLocator.toFileURL(getClass().getResource("/server/mp-langserver/org.eclipse.lsp4mp.ls.jar"));
@@ -96,7 +118,8 @@ public class LibertyMPLSConnection extends ProcessStreamConnectionProvider {
 		commands.put("commandsKind", commandsKind);
 		extendedClientCapabilities.put("commands", commands);
         extendedClientCapabilities.put("completion", new HashMap<>());
-        extendedClientCapabilities.put("shouldLanguageServerExitOnShutdown", Boolean.TRUE);
+        // A server hosted in the shared JVM must not end the JVM on shutdown.
+        extendedClientCapabilities.put("shouldLanguageServerExitOnShutdown", Boolean.valueOf(!useSharedJVM()));
 		root.put("extendedClientCapabilities", extendedClientCapabilities);
 		return root;
 	}
@@ -0,0 +1,215 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.mpls;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.ls.JDTUtilsLSImpl;
+
+/**
+ * Cache of the MicroProfile project information sent to the MicroProfile language server.
+ *
+ * Entries are keyed by project, scopes, and document format. Each entry holds a fingerprint of the project's resolved classpath,
+ * which includes the size and modification time of each library, so an entry computed with a different classpath is not served.
+ * Source changes are reported by the MicroProfile properties changed events, which discard the entries of the affected projects and
+ * scopes. The cache outlives the language client, so that a restarted language server is served from memory.
+ *
+ * Project information is computed outside of any lock. A generation counter, incremented by each properties changed event, prevents
+ * a result computed before an event from being cached after it.
+ */
+public class MicroProfileProjectInfoCache {
+
+    /** The instance of this class. */
+    private static MicroProfileProjectInfoCache instance;
+
+    /** The cached project information, keyed by project URI, scopes, and document format. */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+    /** The number of properties changed events received. Guarded by this cache. */
+    private long generation;
+
+    /**
+     * Constructor.
+     */
+    private MicroProfileProjectInfoCache() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized MicroProfileProjectInfoCache getInstance() {
+        if (instance == null) {
+            instance = new MicroProfileProjectInfoCache();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns the MicroProfile project information matching the input parameters, computing it if it is not cached or is out of date.
+     *
+     * @param params The project information parameters.
+     * @param monitor The progress monitor.
+     *
+     * @return The MicroProfile project information.
+     *
+     * @throws CoreException If the project information cannot be computed.
+     */
+    public MicroProfileProjectInfo getProjectInfo(MicroProfileProjectInfoParams params, IProgressMonitor monitor) throws CoreException {
+        IFile file = JDTUtilsLSImpl.getInstance().findFile(params.getUri());
+        IProject project = (file != null) ? file.getProject() : null;
+        if (project == null) {
+            return PropertiesManager.getInstance().getMicroProfileProjectInfo(params, JDTUtilsLSImpl.getInstance(), monitor);
+        }
+
+        String projectURI = JDTMicroProfileUtils.getProjectURI(project);
+        String key = projectURI + "|" + params.getScopes() + "|" + params.getDocumentFormat();
+        String fingerprint = computeClasspathFingerprint(project);
+
+        long startGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.fingerprint.equals(fingerprint)) {
+                return entry.projectInfo;
+            }
+            startGeneration = generation;
+        }
+
+        MicroProfileProjectInfo projectInfo = PropertiesManager.getInstance().getMicroProfileProjectInfo(params,
+                JDTUtilsLSImpl.getInstance(), monitor);
+        if (projectInfo != null && !monitor.isCanceled()) {
+            synchronized (this) {
+                // A properties changed event received during the computation may have made the result stale.
+                if (generation == startGeneration) {
+                    entries.put(key, new Entry(projectURI, params.getScopes(), fingerprint, projectInfo));
+                }
+            }
+        }
+
+        return projectInfo;
+    }
+
+    /**
+     * Discards the entries of the projects and scopes affected by the input event.
+     *
+     * @param event The MicroProfile properties changed event.
+     */
+    public synchronized void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
+        generation++;
+        List<MicroProfilePropertiesScope> changedScopes = event.getType();
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext();) {
+            Entry entry = iterator.next();
+            if (!event.getProjectURIs().contains(entry.projectURI)) {
+                continue;
+            }
+
+            if (changedScopes == null || entry.scopes == null || changedScopes.stream().anyMatch(entry.scopes::contains)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns a fingerprint of the resolved classpath of the input project: the path of each entry, and the size and modification
+     * time of each library.
+     *
+     * @param project The project.
+     *
+     * @return The fingerprint of the resolved classpath, or an empty string if the project is not a Java project.
+     */
+    private static String computeClasspathFingerprint(IProject project) {
+        IJavaProject javaProject = JavaCore.create(project);
+        if (javaProject == null || !javaProject.exists()) {
+            return "";
+        }
+
+        StringBuilder fingerprint = new StringBuilder();
+        try {
+            for (IClasspathEntry classpathEntry : javaProject.getResolvedClasspath(true)) {
+                IPath path = classpathEntry.getPath();
+                fingerprint.append(classpathEntry.getEntryKind()).append(':').append(path);
+                if (classpathEntry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+                    File library = toFile(path);
+                    if (library != null) {
+                        fingerprint.append(':').append(library.length()).append(':').append(library.lastModified());
+                    }
+                }
+                fingerprint.append('\n');
+            }
+        } catch (JavaModelException e) {
+            // An unresolvable classpath never matches a cached entry.
+            return Long.toString(System.nanoTime());
+        }
+
+        return Integer.toHexString(fingerprint.toString().hashCode()) + ":" + fingerprint.length();
+    }
+
+    /**
+     * Returns the file of the input library path, which is either a workspace path or a file system path.
+     *
+     * @param path The library path.
+     *
+     * @return The file of the library, or null if it cannot be located.
+     */
+    private static File toFile(IPath path) {
+        IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+        if (resource != null) {
+            IPath location = resource.getLocation();
+            return (location != null) ? location.toFile() : null;
+        }
+
+        return path.toFile();
+    }
+
+    /**
+     * Cached project information.
+     */
+    private static class Entry {
+
+        private final String projectURI;
+        private final List<MicroProfilePropertiesScope> scopes;
+        private final String fingerprint;
+        private final MicroProfileProjectInfo projectInfo;
+
+        Entry(String projectURI, List<MicroProfilePropertiesScope> scopes, String fingerprint, MicroProfileProjectInfo projectInfo) {
+            this.projectURI = projectURI;
+            this.scopes = (scopes != null) ? new ArrayList<MicroProfilePropertiesScope>(scopes) : null;
+            this.fingerprint = fingerprint;
+            this.projectInfo = projectInfo;
+        }
+    }
+}
@@ -15,28 +15,55 @@ package io.openliberty.tools.eclipse;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.ui.preferences.LibertyToolsPreferencePage;
 import io.openliberty.tools.eclipse.utils.ErrorHandler;
 import io.openliberty.tools.eclipse.utils.Utils;
 
 public class CommandBuilder {
 
+    /**
+     * Project relative paths of the files that determine whether or not a wrapper is used. Changes to any of these files
+     * invalidate the cached command for the project.
+     */
+    public static final String[] WRAPPER_FILES = new String[] { "mvnw", "mvnw.cmd", ".mvn/wrapper/maven-wrapper.jar",
+            ".mvn/wrapper/maven-wrapper.properties", "gradlew", "gradlew.bat", "gradle/wrapper/gradle-wrapper.jar",
+            "gradle/wrapper/gradle-wrapper.properties" };
+
+    /**
+     * Resolved commands keyed by project path and build tool. Entries are only reused while the PATH and install location
+     * preferences used to resolve them are unchanged, while the resolved executable still exists, and while the project's wrapper
+     * is unchanged. The wrapper is checked on every lookup, since wrappers created or deleted outside of the workspace are not
+     * reported as resource changes until the project is refreshed.
+     */
+    private static final Map<String, ResolvedCommand> commandCache = new ConcurrentHashMap<String, ResolvedCommand>();
+
     private String projectPath;
 
     private String pathEnv;
 
     private boolean isMaven;
 
+    private boolean useMavenDaemon;
+
     /**
      * @param pathEnv
      * @param isMaven true for Maven, false for Gradle
+     * @param useMavenDaemon true if the Maven Daemon (mvnd) should be used in preference to mvn. The project's Maven wrapper, if
+     *        any, is still used first. Ignored for Gradle.
      */
-    private CommandBuilder(String projectPath, String pathEnv, boolean isMaven) {
+    private CommandBuilder(String projectPath, String pathEnv, boolean isMaven, boolean useMavenDaemon) {
         super();
         this.projectPath = projectPath;
         this.pathEnv = pathEnv;
         this.isMaven = isMaven;
+        this.useMavenDaemon = useMavenDaemon;
     }
 
     /**
@@ -52,10 +79,28 @@ public class CommandBuilder {
      */
     public static String getMavenCommandLine(String projectPath, String cmdArgs, String pathEnv, boolean printCmd)
             throws CommandBuilder.CommandNotFoundException {
+        return getMavenCommandLine(projectPath, cmdArgs, pathEnv, printCmd, false);
+    }
+
+    /**
+     * Returns the full Maven command to run on the terminal.
+     *
+     * @param projectPath The project's path.
+     * @param cmdArgs The mvn command args
+     * @param pathEnv The PATH env var
+     * @param useMavenDaemon True if the Maven Daemon (mvnd) should be used when the project has no Maven wrapper and mvnd can be
+     *        found. Otherwise, the regular mvnw/mvn resolution is used.
+     *
+     * @return The full Maven command to run on the terminal.
+     * 
+     * @throws CommandNotFoundException
+     */
+    public static String getMavenCommandLine(String projectPath, String cmdArgs, String pathEnv, boolean printCmd,
+            boolean useMavenDaemon) throws CommandBuilder.CommandNotFoundException {
         if (Trace.isEnabled()) {
-            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectPath, cmdArgs });
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectPath, cmdArgs, useMavenDaemon });
         }
-        CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, true);
+        CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, true, useMavenDaemon);
         String cmd = builder.getCommand();
         String cmdLine = builder.getCommandLineFromArgs(cmd, cmdArgs, printCmd);
         if (Trace.isEnabled()) {
@@ -69,7 +114,7 @@ public class CommandBuilder {
         if (Trace.isEnabled()) {
             Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectPath, cmdArgs });
         }
-        CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, false);
+        CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, false, false);
         String cmd = builder.getCommand();
         String cmdLine = builder.getCommandLineFromArgs(cmd, cmdArgs, printCmd);
         if (Trace.isEnabled()) {
@@ -78,13 +123,122 @@ public class CommandBuilder {
         return cmdLine;
     }
 
+    /**
+     * Returns the Maven command and its arguments as separate list entries, suitable for use with a ProcessBuilder. Unlike
+     * {@link #getMavenCommandLine(String, String, String, boolean)}, paths containing spaces are preserved.
+     *
+     * @param projectPath The project's path.
+     * @param pathEnv The PATH env var
+     * @param cmdArgs The mvn command args
+     *
+     * @return The Maven command and its arguments.
+     * 
+     * @throws CommandNotFoundException
+     */
+    public static List<String> getMavenCommandList(String projectPath, String pathEnv, String... cmdArgs)
+            throws CommandBuilder.CommandNotFoundException {
+        CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, true, false);
+        List<String> cmdList = new ArrayList<String>();
+        cmdList.add(builder.getCommand());
+        cmdList.addAll(Arrays.asList(cmdArgs));
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Maven command list: " + cmdList);
+        }
+        return cmdList;
+    }
+
+    /**
+     * Returns the Gradle command and its arguments as separate list entries, suitable for use with a ProcessBuilder.
+     *
+     * @param projectPath The project's path.
+     * @param pathEnv The PATH env var
+     * @param cmdArgs The gradle command args
+     *
+     * @return The Gradle command and its arguments.
+     * 
+     * @throws CommandNotFoundException
+     */
+    public static List<String> getGradleCommandList(String projectPath, String pathEnv, String... cmdArgs)
+            throws CommandBuilder.CommandNotFoundException {
+        CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, false, false);
+        List<String> cmdList = new ArrayList<String>();
+        cmdList.add(builder.getCommand());
+        cmdList.addAll(Arrays.asList(cmdArgs));
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Gradle command list: " + cmdList);
+        }
+        return cmdList;
+    }
+
+    /**
+     * Removes the cached commands associated with the input project path.
+     * 
+     * @param projectPath The project's path.
+     */
+    public static void invalidateCachedCommands(String projectPath) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Invalidating cached commands for projectPath: " + projectPath);
+        }
+
+        commandCache.keySet().removeIf(key -> key.startsWith(projectPath + File.pathSeparator));
+    }
+
+    /**
+     * Removes all cached commands.
+     */
+    public static void invalidateCachedCommands() {
+        commandCache.clear();
+    }
+
     private String getCommand() throws CommandBuilder.CommandNotFoundException {
-        String cmd = getCommandFromWrapper();
+        String cacheKey = projectPath + File.pathSeparator + (isMaven ? (useMavenDaemon ? "mvnd" : "mvn") : "gradle");
+        String fingerprint = getResolutionFingerprint();
+        String wrapperCmd = getCommandFromWrapper();
+
+        ResolvedCommand cached = commandCache.get(cacheKey);
+        if (cached != null) {
+            boolean wrapperUnchanged = (wrapperCmd != null) ? wrapperCmd.equals(cached.cmd) : !cached.wrapper;
+            if (wrapperUnchanged && cached.fingerprint.equals(fingerprint) && new File(cached.cmd).exists()) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Using cached command: " + cached.cmd);
+                }
+                return cached.cmd;
+            }
+            commandCache.remove(cacheKey, cached);
+        }
+
+        String cmd = resolveCommand(wrapperCmd);
+        commandCache.put(cacheKey, new ResolvedCommand(cmd, fingerprint, cmd.equals(wrapperCmd)));
+
+        return cmd;
+    }
+
+    /**
+     * Returns a string representing the inputs, other than the project's wrapper files, that were used to resolve the command.
+     * 
+     * @return A string representing the inputs, other than the project's wrapper files, that were used to resolve the command.
+     */
+    private String getResolutionFingerprint() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(pathEnv).append('\n').append(getInstallLocationPreferenceString());
+        if (isMaven && useMavenDaemon) {
+            sb.append('\n').append(LibertyDevPlugin.getDefault().getPreferenceStore().getString(LibertyToolsPreferencePage.MAVEN_DAEMON_PATH));
+        }
+
+        return sb.toString();
+    }
+
+    private String resolveCommand(String wrapperCmd) throws CommandBuilder.CommandNotFoundException {
+        // The project's wrapper pins the build tool version, so it is used even if the Maven Daemon is requested.
+        String cmd = wrapperCmd;
+        if (cmd == null && isMaven && useMavenDaemon) {
+            cmd = getMavenDaemonCommand();
+        }
         if (cmd == null) {
-            cmd = getCommandFromPreferences();
+            cmd = getCommandFromPreferences(getInstallLocationPreferenceString(), getExecBaseName());
         }
         if (cmd == null) {
-            cmd = getCommandFromPathEnvVar();
+            cmd = getCommandFromPathEnvVar(getExecBaseName());
         }
 
         if (Trace.isEnabled()) {
@@ -107,6 +261,33 @@ public class CommandBuilder {
         return cmd;
     }
 
+    /**
+     * Returns the path to the Maven Daemon (mvnd) executable. The install location preference is checked first, if it is set,
+     * followed by the PATH environment variable.
+     * 
+     * @return The path to the Maven Daemon executable, or null if it was not found.
+     */
+    private String getMavenDaemonCommand() {
+        String mvndBaseName = Utils.isWindows() ? "mvnd.cmd" : "mvnd";
+        String mvndInstallLocation = LibertyDevPlugin.getDefault().getPreferenceStore().getString(LibertyToolsPreferencePage.MAVEN_DAEMON_PATH);
+        String cmd = null;
+        if (mvndInstallLocation != null && !mvndInstallLocation.isBlank()) {
+            cmd = getCommandFromPreferences(mvndInstallLocation, mvndBaseName);
+        }
+        if (cmd == null) {
+            cmd = getCommandFromPathEnvVar(mvndBaseName);
+        }
+
+        if (cmd == null) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS,
+                        "Did NOT find the Maven Daemon (mvnd). Falling back to mvn for projectPath: " + projectPath);
+            }
+        }
+
+        return cmd;
+    }
+
     private String getCommandFromWrapper() {
 
         String cmd = null;
@@ -140,19 +321,19 @@ public class CommandBuilder {
         return cmd;
     }
 
-    private String getCommandFromPreferences() throws IllegalStateException {
+    private String getCommandFromPreferences(String installLocation, String executableBaseName) throws IllegalStateException {
 
-        File tempCmdFile = new File(getInstallLocationPreferenceString() + File.separator + "bin" + File.separator + getExecBaseName());
+        File tempCmdFile = new File(installLocation + File.separator + "bin" + File.separator + executableBaseName);
         String cmdPathStr = tempCmdFile.getPath();
 
         if (tempCmdFile.exists()) {
             if (Trace.isEnabled()) {
-                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Found mvn/gradle from preference at path: " + cmdPathStr);
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Found " + executableBaseName + " from preference at path: " + cmdPathStr);
             }
             return cmdPathStr;
         } else {
             if (Trace.isEnabled()) {
-                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Did NOT find mvn/gradle from preference at path: " + cmdPathStr);
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Did NOT find " + executableBaseName + " from preference at path: " + cmdPathStr);
             }
             return null;
         }
@@ -163,9 +344,8 @@ public class CommandBuilder {
      * 
      * @return
      */
-    private String getCommandFromPathEnvVar() throws IllegalStateException {
+    private String getCommandFromPathEnvVar(String executableBaseName) throws IllegalStateException {
 
-        String executableBaseName = getExecBaseName();
         if (Trace.isEnabled()) {
             Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { executableBaseName, pathEnv });
         }
@@ -222,6 +402,24 @@ public class CommandBuilder {
         }
     }
 
+    /**
+     * A resolved command, the fingerprint of the inputs used to resolve it, and whether or not it is the project's wrapper.
+     */
+    private static class ResolvedCommand {
+
+        private final String cmd;
+
+        private final String fingerprint;
+
+        private final boolean wrapper;
+
+        private ResolvedCommand(String cmd, String fingerprint, boolean wrapper) {
+            this.cmd = cmd;
+            this.fingerprint = fingerprint;
+            this.wrapper = wrapper;
+        }
+    }
+
     public class CommandNotFoundException extends Exception {
 
         private static final long serialVersionUID = 8469585975896898403L;
@@ -0,0 +1,382 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Waits for the JDWP sockets of the Liberty server JVMs being debugged to start listening for connections.
+ *
+ * All pending attach requests are multiplexed on a single selector thread. Connection attempts are non-blocking and are retried
+ * with a short exponential backoff until the request's deadline expires. Once a connection is established, the JDWP handshake is
+ * sent and the request's future is completed with the port that was connected to.
+ */
+public class DebugAttachService {
+
+    /** Maximum number of seconds to wait for a JVM to start listening on its debug port. */
+    public static final int ATTACH_TIMEOUT_SECS = 180;
+
+    /** Initial number of milliseconds to wait between connection attempts. */
+    private static final long INITIAL_BACKOFF_MILLIS = 20;
+
+    /** Maximum number of milliseconds to wait between connection attempts. */
+    private static final long MAX_BACKOFF_MILLIS = 250;
+
+    /** Maximum number of milliseconds to wait for a single connection attempt to complete. */
+    private static final long CONNECT_TIMEOUT_MILLIS = 1000;
+
+    /** Number of milliseconds between checks of the terminal tab state of the projects waiting to attach. */
+    private static final long TERMINAL_CHECK_INTERVAL_MILLIS = 2000;
+
+    /** JDWP handshake. */
+    private static final byte[] JDWP_HANDSHAKE = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
+
+    /** The instance of this class. */
+    private static DebugAttachService instance;
+
+    /** Requests submitted since the selector thread last ran. */
+    private final ConcurrentLinkedQueue<AttachRequest> submitted = new ConcurrentLinkedQueue<AttachRequest>();
+
+    /** Requests being processed. Only accessed by the selector thread. */
+    private final List<AttachRequest> pending = new ArrayList<AttachRequest>();
+
+    /** The selector. Null until the first request is submitted. */
+    private Selector selector;
+
+    /** Time at which the terminal tab state of the pending projects is checked next. */
+    private long nextTerminalCheck;
+
+    /**
+     * Constructor.
+     */
+    private DebugAttachService() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized DebugAttachService getInstance() {
+        if (instance == null) {
+            instance = new DebugAttachService();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Waits for the JDWP socket at the input host and port to start listening for connections.
+     *
+     * The returned future completes with the port that was connected to, or exceptionally with a {@link TimeoutException} if the
+     * socket did not start listening within {@link #ATTACH_TIMEOUT_SECS} seconds. The wait is cancelled if the project's terminal tab
+     * is marked closed, or if the caller cancels the returned future.
+     *
+     * @param projectName The name of the project being debugged.
+     * @param host The host to connect to.
+     * @param port The port to connect to.
+     *
+     * @return The future result of the wait.
+     *
+     * @throws IOException If the selector cannot be opened.
+     */
+    public CompletableFuture<String> attach(String projectName, String host, String port) throws IOException {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectName, host, port });
+        }
+
+        AttachRequest request = new AttachRequest(projectName, new InetSocketAddress(host, Integer.valueOf(port)), port);
+        submitted.add(request);
+        getSelector().wakeup();
+
+        // Wake the selector up when the caller cancels the request, so that it is not kept until its next attempt.
+        request.future.whenComplete((p, t) -> {
+            if (request.future.isCancelled()) {
+                getSelectorIfOpen().wakeup();
+            }
+        });
+
+        return request.future;
+    }
+
+    /**
+     * Returns the selector, opening it and starting the selector thread the first time.
+     *
+     * @return The selector.
+     *
+     * @throws IOException If the selector cannot be opened.
+     */
+    private synchronized Selector getSelector() throws IOException {
+        if (selector == null) {
+            selector = Selector.open();
+            Thread thread = new Thread(this::runSelectorLoop, "Liberty Tools Debug Attach");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        return selector;
+    }
+
+    /**
+     * Returns the selector. It is only called after the selector was opened.
+     *
+     * @return The selector.
+     */
+    private synchronized Selector getSelectorIfOpen() {
+        return selector;
+    }
+
+    /**
+     * Processes the attach requests until the thread is interrupted.
+     */
+    private void runSelectorLoop() {
+        Selector sel = getSelectorIfOpen();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                AttachRequest newRequest;
+                while ((newRequest = submitted.poll()) != null) {
+                    pending.add(newRequest);
+                }
+
+                long now = System.nanoTime();
+                long timeoutMillis = processPending(sel, now);
+
+                if (!pending.isEmpty() && now - nextTerminalCheck >= 0) {
+                    nextTerminalCheck = now + TimeUnit.MILLISECONDS.toNanos(TERMINAL_CHECK_INTERVAL_MILLIS);
+                    checkTerminalTabs();
+                }
+
+                // Block until a connection completes, a request is submitted or cancelled, or a timer expires.
+                if (pending.isEmpty()) {
+                    sel.select();
+                } else {
+                    sel.select(Math.max(1, timeoutMillis));
+                }
+
+                Iterator<SelectionKey> keys = sel.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    finishConnect((AttachRequest) key.attachment());
+                }
+            } catch (Throwable t) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unexpected error while processing debugger attach requests.", t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the completed requests, expires the timed out requests, and starts the connection attempts that are due.
+     *
+     * @param sel The selector.
+     * @param now The current time in nanoseconds.
+     *
+     * @return The number of milliseconds until the next timer expires.
+     */
+    private long processPending(Selector sel, long now) {
+        long nextWakeUp = Long.MAX_VALUE;
+
+        Iterator<AttachRequest> requests = pending.iterator();
+        while (requests.hasNext()) {
+            AttachRequest request = requests.next();
+
+            if (request.future.isDone()) {
+                request.closeChannel();
+                requests.remove();
+                continue;
+            }
+
+            if (now - request.deadline >= 0) {
+                request.closeChannel();
+                requests.remove();
+                request.future.completeExceptionally(new TimeoutException("Timed out waiting for the JVM debug port of project "
+                        + request.projectName + " to start listening on " + request.address + "."));
+                continue;
+            }
+
+            if (request.channel != null && now - request.attemptDeadline >= 0) {
+                // The connection attempt did not complete in time. Try again.
+                request.closeChannel();
+                request.scheduleRetry(now);
+            }
+
+            if (request.channel == null && now - request.nextAttempt >= 0) {
+                startConnect(sel, request, now);
+            }
+
+            if (request.future.isDone()) {
+                requests.remove();
+                continue;
+            }
+
+            long requestWakeUp = (request.channel != null) ? request.attemptDeadline : request.nextAttempt;
+            nextWakeUp = Math.min(nextWakeUp, Math.min(requestWakeUp, request.deadline) - now);
+        }
+
+        return (nextWakeUp == Long.MAX_VALUE) ? 0 : TimeUnit.NANOSECONDS.toMillis(nextWakeUp) + 1;
+    }
+
+    /**
+     * Starts a non-blocking connection attempt.
+     *
+     * @param sel The selector.
+     * @param request The request being processed.
+     * @param now The current time in nanoseconds.
+     */
+    private void startConnect(Selector sel, AttachRequest request, long now) {
+        try {
+            SocketChannel channel = SocketChannel.open();
+            request.channel = channel;
+            request.attemptDeadline = now + TimeUnit.MILLISECONDS.toNanos(CONNECT_TIMEOUT_MILLIS);
+            channel.configureBlocking(false);
+
+            if (channel.connect(request.address)) {
+                completeHandshake(request);
+            } else {
+                channel.register(sel, SelectionKey.OP_CONNECT, request);
+            }
+        } catch (IOException e) {
+            request.closeChannel();
+            request.scheduleRetry(now);
+        }
+    }
+
+    /**
+     * Completes a connection attempt whose channel was selected.
+     *
+     * @param request The request being processed.
+     */
+    private void finishConnect(AttachRequest request) {
+        try {
+            if (request.channel != null && request.channel.finishConnect()) {
+                completeHandshake(request);
+            }
+        } catch (IOException e) {
+            // The port is not open yet.
+            request.closeChannel();
+            request.scheduleRetry(System.nanoTime());
+        }
+    }
+
+    /**
+     * Sends the JDWP handshake over the connected channel and completes the request.
+     *
+     * @param request The request being processed.
+     *
+     * @throws IOException If the handshake cannot be sent.
+     */
+    private void completeHandshake(AttachRequest request) throws IOException {
+        ByteBuffer handshake = ByteBuffer.wrap(JDWP_HANDSHAKE);
+        while (handshake.hasRemaining()) {
+            request.channel.write(handshake);
+        }
+
+        request.closeChannel();
+        request.future.complete(request.port);
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "The JVM debug port of project " + request.projectName + " is listening on "
+                    + request.address + ".");
+        }
+    }
+
+    /**
+     * Cancels the requests of the projects whose terminal tab was marked closed. The terminal tab state is read on the UI thread
+     * once for all pending requests.
+     */
+    private void checkTerminalTabs() {
+        List<AttachRequest> toCheck = new ArrayList<AttachRequest>(pending);
+        Display display = PlatformUI.getWorkbench().getDisplay();
+        display.asyncExec(new Runnable() {
+            public void run() {
+                DevModeOperations devModeOps = DevModeOperations.getInstance();
+                for (AttachRequest request : toCheck) {
+                    if (devModeOps.isProjectTerminalTabMarkedClosed(request.projectName)) {
+                        request.future.cancel(false);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * A request to wait for a JVM debug port.
+     */
+    private static class AttachRequest {
+
+        final String projectName;
+
+        final InetSocketAddress address;
+
+        final String port;
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ATTACH_TIMEOUT_SECS);
+
+        final CompletableFuture<String> future = new CompletableFuture<String>();
+
+        /** The channel of the connection attempt in progress. Null while waiting to retry. */
+        SocketChannel channel;
+
+        /** Time at which the connection attempt in progress is abandoned. */
+        long attemptDeadline;
+
+        /** Time at which the next connection attempt starts. */
+        long nextAttempt = System.nanoTime();
+
+        /** Number of milliseconds to wait before the next retry. */
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+
+        AttachRequest(String projectName, InetSocketAddress address, String port) {
+            this.projectName = projectName;
+            this.address = address;
+            this.port = port;
+        }
+
+        void scheduleRetry(long now) {
+            nextAttempt = now + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+
+        void closeChannel() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // Nothing to do.
+                }
+                channel = null;
+            }
+        }
+    }
+}
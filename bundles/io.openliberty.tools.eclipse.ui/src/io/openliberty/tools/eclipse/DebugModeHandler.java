@@ -15,20 +15,15 @@ package io.openliberty.tools.eclipse;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
-import java.net.ConnectException;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -37,12 +32,16 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.ILaunchesListener2;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.swt.widgets.Display;
@@ -87,6 +86,9 @@ public class DebugModeHandler {
     /** Job status return code indicating that an error took place while attempting to attach the debugger to the JVM. */
     public static int JOB_STATUS_DEBUGGER_CONN_ERROR = 1;
 
+    /** Number of seconds to wait for the server JVM to exit after its debug target terminated. */
+    private static final long SERVER_JVM_EXIT_WAIT_SECS = 15;
+
     /** Instance to this class. */
     private LaunchConfigurationHelper launchConfigHelper = LaunchConfigurationHelper.getInstance();
 
@@ -155,6 +157,9 @@ public class DebugModeHandler {
      * @param inputParms
      * 
      * @return The debug port to be used.
+     * 
+     * @throws Exception If the build type is not supported, or if the debug port specified in the input parameters is not a valid
+     *         port number.
      */
     public String calculateDebugPort(Project project, String inputParms) throws Exception {
         if (Trace.isEnabled()) {
@@ -181,18 +186,22 @@ public class DebugModeHandler {
             for (String part : parts) {
                 if (part.contains(searchKey)) {
                     String[] debugParts = part.split("=");
-                    debugPort = debugParts[1].trim();
+                    debugPort = (debugParts.length > 1) ? debugParts[1].trim() : "";
                     break;
                 }
             }
         }
 
-        // 2. Get a random port.
+        // 2. Reserve the specified port, or a free port, so that no other dev mode session is given the same port.
+        String projectName = project.getIProject().getName();
+        PortReservationManager portManager = PortReservationManager.getInstance();
         if (debugPort == null) {
-            try (ServerSocket socket = new ServerSocket(0)) {
-                int randomPort = socket.getLocalPort();
-                debugPort = String.valueOf(randomPort);
-            }
+            debugPort = String.valueOf(portManager.reserve(projectName));
+        } else if (!portManager.reserve(projectName, parseDebugPort(debugPort, searchKey))) {
+            String owner = portManager.getOwner(Integer.parseInt(debugPort));
+            ErrorHandler.processWarningMessage("Debug port " + debugPort + " specified for project " + projectName + " is "
+                    + ((owner != null) ? "used by project " + owner : "in use by another process")
+                    + ". The debugger may fail to attach.", false);
         }
 
         if (Trace.isEnabled()) {
@@ -203,6 +212,32 @@ public class DebugModeHandler {
 
     }
 
+    /**
+     * Returns the input debug port as a number.
+     * 
+     * @param debugPort The debug port specified in the start parameters.
+     * @param parmName The name of the start parameter specifying the debug port.
+     * 
+     * @return The input debug port as a number.
+     * 
+     * @throws Exception If the input debug port is not a number between 1 and 65535.
+     */
+    private int parseDebugPort(String debugPort, String parmName) throws Exception {
+        int port = -1;
+        try {
+            port = Integer.parseInt(debugPort);
+        } catch (NumberFormatException e) {
+            // Reported below.
+        }
+
+        if (port < 1 || port > 65535) {
+            throw new Exception("The debug port \"" + debugPort + "\" specified by the " + parmName
+                    + " start parameter is not valid. Specify a port number between 1 and 65535.");
+        }
+
+        return port;
+    }
+
     /**
      * Starts the job that will attempt to connect the debugger with the server's JVM.
      * 
@@ -212,22 +247,43 @@ public class DebugModeHandler {
      * @throws Exception
      */
     public void startDebugAttacher(Project project, String debugPort) {
+        startDebugAttacher(project, debugPort, false);
+    }
+
+    /**
+     * Starts the job that will attempt to connect the debugger with the server's JVM.
+     * 
+     * @param project The project for which the debugger needs to be attached.
+     * @param debugPort The debug port to use to attach the debugger to.
+     * @param isReattach True if the debugger is being re-attached after the server restarted. If so, the debug perspective is not
+     *        opened again.
+     */
+    private void startDebugAttacher(Project project, String debugPort, boolean isReattach) {
         String projectName = project.getIProject().getName();
 
+        // Wait for the JVM debug port to start listening. The wait is handled by the shared attach service, so that no thread is held
+        // per debug session while the server starts.
+        CompletableFuture<String> attachFuture;
+        try {
+            attachFuture = DebugAttachService.getInstance().attach(projectName, DEFAULT_ATTACH_HOST, debugPort);
+        } catch (Exception e) {
+            attachFuture = new CompletableFuture<String>();
+            attachFuture.completeExceptionally(e);
+        }
+        CompletableFuture<String> portFuture = attachFuture;
+
         Job job = new Job("Attaching Debugger to JVM...") {
             @Override
             protected IStatus run(IProgressMonitor monitor) {
                 try {
-                    if (monitor.isCanceled()) {
+                    if (monitor.isCanceled() || portFuture.isCancelled()) {
                         return Status.CANCEL_STATUS;
                     }
 
-                    String portToConnect = waitForSocketActivation(project, DEFAULT_ATTACH_HOST, debugPort, monitor);
-                    if (portToConnect == null) {
-                        return Status.CANCEL_STATUS;
-                    }
+                    String portToConnect = getAttachedPort(portFuture, debugPort);
 
-                    createRemoteJavaAppDebugConfig(project, DEFAULT_ATTACH_HOST, portToConnect, monitor);
+                    ILaunch launch = createRemoteJavaAppDebugConfig(project, DEFAULT_ATTACH_HOST, portToConnect, monitor);
+                    watchForServerRestart(project, portToConnect, launch);
 
                 } catch (Exception e) {
                     return new Status(IStatus.ERROR, LibertyDevPlugin.PLUGIN_ID, JOB_STATUS_DEBUGGER_CONN_ERROR,
@@ -246,6 +302,7 @@ public class DebugModeHandler {
              */
             @Override
             public void cleanup() {
+                portFuture.cancel(false);
                 job.cancel();
             }
         };
@@ -261,6 +318,9 @@ public class DebugModeHandler {
                 Display display = workbench.getDisplay();
 
                 if (result.isOK()) {
+                    if (isReattach) {
+                        return;
+                    }
                     display.syncExec(new Runnable() {
                         public void run() {
                             openDebugPerspective();
@@ -280,7 +340,69 @@ public class DebugModeHandler {
             }
         });
 
-        job.schedule();
+        // Create the debug configuration and attach the debugger once the wait completes.
+        portFuture.whenComplete((port, t) -> job.schedule());
+    }
+
+    /**
+     * Re-attaches the debugger when the input launch's debug target terminates because the server JVM stopped, which happens when
+     * dev mode restarts the server. The debugger is not re-attached if the user disconnected it or removed the launch, or if dev
+     * mode is no longer running in the project's terminal tab. The re-attach waits for the same port with backoff and reuses the
+     * project's Remote Java Application configuration.
+     * 
+     * @param project The project being debugged.
+     * @param debugPort The debug port.
+     * @param launch The debug launch.
+     */
+    private void watchForServerRestart(Project project, String debugPort, ILaunch launch) {
+        // Find the server JVM being debugged. Its exit tells a server restart apart from a user disconnect.
+        ProcessHandle serverJvm = null;
+        try {
+            serverJvm = LibertyPluginStopJob.findServerJvm(project.getIProject().getName(),
+                    getLibertyServersPath(getLibertyServerProject(project)));
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS,
+                        "Unable to find the Liberty servers directory for project " + project.getIProject().getName(), e);
+            }
+        }
+
+        ServerRestartWatcher watcher = new ServerRestartWatcher(project, debugPort, launch, serverJvm);
+
+        // Stop watching when the terminal or terminal tab is terminated.
+        devModeOps.registerTerminalListener(project.getIProject().getName(), watcher);
+        DebugPlugin.getDefault().getLaunchManager().addLaunchListener(watcher);
+        DebugPlugin.getDefault().addDebugEventListener(watcher);
+
+        // The target may have terminated before the listener was added.
+        IDebugTarget target = launch.getDebugTarget();
+        if (target != null && target.isTerminated()) {
+            watcher.handleDebugEvents(new DebugEvent[] { new DebugEvent(target, DebugEvent.TERMINATE) });
+        }
+    }
+
+    /**
+     * Returns the port that the debug port wait connected to.
+     * 
+     * @param portFuture The future result of the wait.
+     * @param debugPort The debug port that was waited on.
+     * 
+     * @return The port that the debug port wait connected to.
+     * 
+     * @throws Exception If the wait failed.
+     */
+    private String getAttachedPort(CompletableFuture<String> portFuture, String debugPort) throws Exception {
+        try {
+            return portFuture.get();
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new Exception("Timed out trying to attach the debugger to JVM on host: " + DEFAULT_ATTACH_HOST + " and port: "
+                        + debugPort
+                        + ".  If the server starts later you might try to manually create a Remote Java Application debug configuration and attach to the server.  You can confirm the debug port used in the terminal output looking for a message like  'Liberty debug port: [ 63624 ]'.");
+            }
+            throw (cause instanceof Exception) ? (Exception) cause : ee;
+        }
     }
 
     /**
@@ -334,67 +456,6 @@ public class DebugModeHandler {
         }
     }
 
-    /**
-     * Returns the default path of the server.env file after Liberty server deployment.
-     * 
-     * @param project The project for which this operations is being performed.
-     * 
-     * @return The default path of the server.env file after Liberty server deployment.
-     * 
-     * @throws Exception
-     */
-    private Path getServerEnvPath(Project project) throws Exception {
-        Path basePath = null;
-        Project serverProj = getLibertyServerProject(project);
-        String projectPath = serverProj.getPath();
-        String projectName = serverProj.getName();
-        BuildType buildType = serverProj.getBuildType();
-
-        if (buildType == Project.BuildType.MAVEN) {
-            basePath = Paths.get(projectPath, "target", "liberty", "wlp", "usr", "servers");
-        } else if (buildType == Project.BuildType.GRADLE) {
-            basePath = Paths.get(projectPath, "build", "wlp", "usr", "servers");
-        } else {
-            throw new Exception("Unexpected project build type: " + buildType + ". Project" + projectName
-                    + "does not appear to be a Maven or Gradle built project.");
-        }
-
-        // Make sure the base path exists. If not return null.
-        File basePathFile = new File(basePath.toString());
-        if (!basePathFile.exists()) {
-            return null;
-        }
-
-        try (Stream<Path> matchedStream = Files.find(basePath, 2, (path, basicFileAttribute) -> {
-            if (basicFileAttribute.isRegularFile()) {
-                return path.getFileName().toString().equalsIgnoreCase(WLP_SERVER_ENV_FILE_NAME);
-            }
-            return false;
-        });) {
-            List<Path> matchedPaths = matchedStream.collect(Collectors.toList());
-            int numberOfFilesFound = matchedPaths.size();
-
-            if (numberOfFilesFound != 1) {
-                if (numberOfFilesFound == 0) {
-                    String msg = "Unable to find the server.env file for project " + projectName + ".";
-                    if (Trace.isEnabled()) {
-                        Trace.getTracer().trace(Trace.TRACE_UI, msg);
-                    }
-                    return null;
-                } else {
-                    String msg = "More than one server.env file was found for project " + projectName
-                            + ". Unable to determine which server.env file to use.";
-                    if (Trace.isEnabled()) {
-                        Trace.getTracer().trace(Trace.TRACE_UI, msg);
-                    }
-                    ErrorHandler.processErrorMessage(msg, false);
-                    throw new Exception(msg);
-                }
-            }
-            return matchedPaths.get(0);
-        }
-    }
-
     /**
      * Returns the port value associated with the WLP_DEBUG_ADDRESS entry in server.env. Null if not found. If there are multiple
      * WLP_DEBUG_ADDRESS entries, the last entry is returned.
@@ -464,22 +525,12 @@ public class DebugModeHandler {
         ILaunchManager iLaunchManager = DebugPlugin.getDefault().getLaunchManager();
         ILaunchConfigurationType remoteJavaAppConfigType = iLaunchManager
                 .getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_REMOTE_JAVA_APPLICATION);
-        ILaunchConfiguration[] remoteJavaAppConfigs = iLaunchManager.getLaunchConfigurations(remoteJavaAppConfigType);
         ILaunchConfigurationWorkingCopy remoteJavaAppConfigWCopy = null;
 
-        // Find the configurations associated with the project.
-        List<ILaunchConfiguration> projectAssociatedConfigs = new ArrayList<ILaunchConfiguration>();
-        for (ILaunchConfiguration remoteJavaAppConfig : remoteJavaAppConfigs) {
-            String savedProjectName = remoteJavaAppConfig.getAttribute(StartTab.PROJECT_NAME, (String) null);
-            if (savedProjectName != null && savedProjectName.equals(projectName)) {
-                projectAssociatedConfigs.add(remoteJavaAppConfig);
-            }
-        }
-
-        // Find the configuration used last.
-        if (projectAssociatedConfigs.size() > 0) {
-            ILaunchConfiguration lastUsedConfig = launchConfigHelper.getLastRunConfiguration(projectAssociatedConfigs);
-            remoteJavaAppConfigWCopy = lastUsedConfig.getWorkingCopy();
+        // Find the configuration associated with the project that used the same port or, if none, that was used last.
+        ILaunchConfiguration existingConfig = RemoteJavaAppConfigIndex.getInstance().find(projectName, port);
+        if (existingConfig != null) {
+            remoteJavaAppConfigWCopy = existingConfig.getWorkingCopy();
         }
 
         // If an existing configuration was not found, create one.
@@ -506,58 +557,27 @@ public class DebugModeHandler {
     }
 
     /**
-     * Waits for the JDWP socket on the JVM to start listening for connections.
+     * Returns the path of the Liberty servers directory (wlp/usr/servers) created by the build tool for the input Liberty server
+     * project. The returned path may not exist yet.
      * 
-     * @param host The host to connect to.
-     * @param port The port to connect to.
-     * @param monitor The progress monitor instance.
+     * @param serverProj The project containing the Liberty server configuration.
      * 
-     * @returns The port that the debugger actually connected to.
+     * @return The path of the Liberty servers directory created by the build tool for the input project.
      * 
-     * @throws Exception
+     * @throws Exception If the project is not a Maven or Gradle project.
      */
-    private String waitForSocketActivation(Project project, String host, String port, IProgressMonitor monitor) throws Exception {
-        byte[] handshakeString = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
-        int retryLimit = 180;
-        int envReadInterval = 2;
-
-        for (int retryCount = 0; retryCount < retryLimit; retryCount++) {
-
-            // Check if the job was cancelled.
-            if (monitor.isCanceled()) {
-                return null;
-            }
-
-            // Check if the terminal was marked as closed, but to reduce contention on the UI thread,
-            // not every time through the loop. We don't have a clean callback/notification that the
-            // terminal session has been marked closed; we're actually going to read the UI element text
-            if (retryCount % envReadInterval == 0) {
-                IWorkbench workbench = PlatformUI.getWorkbench();
-                Display display = workbench.getDisplay();
-                DataHolder data = new DataHolder();
-
-                display.syncExec(new Runnable() {
-                    public void run() {
-                        boolean isClosed = devModeOps.isProjectTerminalTabMarkedClosed(project.getIProject().getName());
-                        data.closed = isClosed;
-                    }
-                });
-
-                if (data.closed == true) {
-                    return null;
-                }
-            }
+    static Path getLibertyServersPath(Project serverProj) throws Exception {
+        String projectPath = serverProj.getPath();
+        BuildType buildType = serverProj.getBuildType();
 
-            try (Socket socket = new Socket(host, Integer.valueOf(port))) {
-                socket.getOutputStream().write(handshakeString);
-                return port;
-            } catch (ConnectException ce) {
-                TimeUnit.SECONDS.sleep(1);
-            }
+        if (buildType == Project.BuildType.MAVEN) {
+            return Paths.get(projectPath, "target", "liberty", "wlp", "usr", "servers");
+        } else if (buildType == Project.BuildType.GRADLE) {
+            return Paths.get(projectPath, "build", "wlp", "usr", "servers");
+        } else {
+            throw new Exception("Unexpected project build type: " + buildType + ". Project" + serverProj.getName()
+                    + "does not appear to be a Maven or Gradle built project.");
         }
-
-        throw new Exception("Timed out trying to attach the debugger to JVM on host: " + host + " and port: " + port
-                + ".  If the server starts later you might try to manually create a Remote Java Application debug configuration and attach to the server.  You can confirm the debug port used in the terminal output looking for a message like  'Liberty debug port: [ 63624 ]'.");
     }
 
     /**
@@ -569,7 +589,7 @@ public class DebugModeHandler {
      * 
      * @throws Exception
      */
-    private Project getLibertyServerProject(Project project) throws Exception {
+    static Project getLibertyServerProject(Project project) throws Exception {
         if (project.isParentOfServerModule()) {
             List<Project> mmps = project.getChildLibertyServerProjects();
             switch (mmps.size()) {
@@ -585,7 +605,143 @@ public class DebugModeHandler {
         return project;
     }
 
-    private class DataHolder {
-        boolean closed;
+    /**
+     * Re-attaches the debugger when the server JVM being debugged stops.
+     *
+     * A debug target reports that it is disconnected both when the user disconnects it and when the debugged JVM dies, so the
+     * watcher records the outcome itself. The server stopped if the server JVM exits shortly after the debug target terminated. If
+     * the server JVM could not be identified, the server stopped if the debug target is terminated rather than only disconnected. The
+     * user ended the session if the server is still running, or if the user removed the launch.
+     */
+    private class ServerRestartWatcher implements IDebugEventSetListener, ILaunchesListener2, TerminalListener {
+
+        private final Project project;
+
+        private final String projectName;
+
+        private final String debugPort;
+
+        private final ILaunch launch;
+
+        /** The server JVM being debugged, or null if it could not be identified. */
+        private final ProcessHandle serverJvm;
+
+        /** Whether or not the user removed the launch. */
+        private volatile boolean launchRemoved;
+
+        ServerRestartWatcher(Project project, String debugPort, ILaunch launch, ProcessHandle serverJvm) {
+            this.project = project;
+            this.projectName = project.getIProject().getName();
+            this.debugPort = debugPort;
+            this.launch = launch;
+            this.serverJvm = serverJvm;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void handleDebugEvents(DebugEvent[] events) {
+            IDebugTarget target = launch.getDebugTarget();
+            for (DebugEvent event : events) {
+                if (event.getKind() != DebugEvent.TERMINATE || target == null || event.getSource() != target) {
+                    continue;
+                }
+
+                DebugPlugin.getDefault().removeDebugEventListener(this);
+                devModeOps.unregisterTerminalListener(projectName, this);
+
+                waitForServerStop(target).thenAccept(serverStopped -> {
+                    DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
+                    serverStoppedOrDisconnected(serverStopped.booleanValue());
+                });
+                return;
+            }
+        }
+
+        /**
+         * Returns whether or not the server stopped, as opposed to the user disconnecting the debugger from the running server.
+         *
+         * @param target The terminated debug target.
+         *
+         * @return The future indication of whether or not the server stopped.
+         */
+        private CompletableFuture<Boolean> waitForServerStop(IDebugTarget target) {
+            if (serverJvm == null) {
+                // Debug targets are only terminated, as opposed to disconnected, when the debugged JVM died.
+                return CompletableFuture.completedFuture(Boolean.valueOf(target.isTerminated()));
+            }
+
+            return serverJvm.onExit().thenApply(ph -> Boolean.TRUE).completeOnTimeout(Boolean.FALSE, SERVER_JVM_EXIT_WAIT_SECS,
+                    TimeUnit.SECONDS);
+        }
+
+        /**
+         * Re-attaches the debugger if the server stopped while dev mode is still running, and if the user did not remove the launch.
+         *
+         * @param serverStopped True if the server stopped. False if the user disconnected the debugger from the running server.
+         */
+        private void serverStoppedOrDisconnected(boolean serverStopped) {
+            if (!serverStopped || launchRemoved) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS,
+                            "The debugger was disconnected from project " + projectName + ". It will not be re-attached.");
+                }
+                return;
+            }
+
+            // The attach service stops waiting if the terminal tab is marked closed.
+            if (ProjectTabController.getInstance().getProjectTab(projectName) == null) {
+                return;
+            }
+
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "The server JVM of project " + projectName
+                        + " stopped while being debugged. Re-attaching the debugger on port " + debugPort + ".");
+            }
+            startDebugAttacher(project, debugPort, true);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void launchesRemoved(ILaunch[] launches) {
+            for (ILaunch removed : launches) {
+                if (removed == launch) {
+                    launchRemoved = true;
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void launchesAdded(ILaunch[] launches) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void launchesChanged(ILaunch[] launches) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void launchesTerminated(ILaunch[] launches) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cleanup() {
+            DebugPlugin.getDefault().removeDebugEventListener(this);
+            DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
+        }
     }
 }
@@ -12,15 +12,16 @@
 *******************************************************************************/
 package io.openliberty.tools.eclipse;
 
-import java.io.File;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
@@ -125,13 +126,18 @@ public class DevModeOperations {
      * @param parms The configuration parameters to be used when starting dev mode.
      * @param javaHomePath The configuration java installation home to be set in the terminal running dev mode.
      * @param mode The configuration mode.
+     * @param useMavenDaemon True if the Maven Daemon (mvnd) should be used to run Maven projects when available.
+     * @param configName The name of the launch configuration used to start the project. It is used to record the start time.
      */
-    public void start(IProject iProject, String parms, String javaHomePath, String mode) {
+    public void start(IProject iProject, String parms, String javaHomePath, String mode, boolean useMavenDaemon, String configName) {
 
         if (Trace.isEnabled()) {
-            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { iProject, parms, javaHomePath, mode });
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS,
+                    new Object[] { iProject, parms, javaHomePath, mode, useMavenDaemon, configName });
         }
 
+        long startRequestTime = System.currentTimeMillis();
+
         if (iProject == null) {
             String msg = "An error was detected when the start request was processed. The object that represents the selected project was not found.";
             if (Trace.isEnabled()) {
@@ -184,6 +190,10 @@ public class DevModeOperations {
                 throw new Exception("Unable to find the path to selected project " + projectName);
             }
 
+            // Release any ports still reserved by a previous session.
+            PortReservationManager portManager = PortReservationManager.getInstance();
+            portManager.release(projectName);
+
             // If in debug mode, adjust the start parameters.
             String userParms = (parms == null) ? "" : parms.trim();
             String startParms = null;
@@ -195,12 +205,15 @@ public class DevModeOperations {
                 startParms = userParms;
             }
 
+            // Reserve the server's HTTP and HTTPS ports, overriding them if they are used by another session.
+            startParms = portManager.addServerPortsToStartParms(project, startParms);
+
             // Prepare the Liberty plugin container dev mode command.
             String cmd = "";
             BuildType buildType = project.getBuildType();
             if (buildType == Project.BuildType.MAVEN) {
                 cmd = CommandBuilder.getMavenCommandLine(projectPath, "io.openliberty.tools:liberty-maven-plugin:dev " + startParms,
-                        pathEnv, true);
+                        pathEnv, true, useMavenDaemon);
             } else if (buildType == Project.BuildType.GRADLE) {
                 cmd = CommandBuilder.getGradleCommandLine(projectPath, "libertyDev " + startParms, pathEnv, true);
             } else {
@@ -215,13 +228,27 @@ public class DevModeOperations {
 
             // Start a terminal and run the application in dev mode.
             startDevMode(cmd, projectName, projectPath, javaHomePath);
+
+            // Release the ports reserved by this session when its terminal is cleaned up.
+            portManager.releaseOnTerminalCleanup(projectName);
+
+            // Monitor the Liberty server files created by dev mode, and index the server messages.
+            ServerFileMonitor serverFileMonitor = ServerFileMonitor.getInstance();
+            serverFileMonitor.watch(project);
+            MessagesLogIndex.getInstance().clear(projectName);
+            serverFileMonitor.addMessagesLogListener(projectName, MessagesLogIndex.getInstance());
+
+            // Record the start timeline.
+            StartTimeRecorder.startRecording(project, configName, startRequestTime);
         } catch (CommandNotFoundException e) {
+            PortReservationManager.getInstance().release(projectName);
             String msg = "Maven or Gradle command not found for project " + projectName;
             if (Trace.isEnabled()) {
                 Trace.getTracer().trace(Trace.TRACE_TOOLS, msg, e);
             }
             return;
         } catch (Exception e) {
+            PortReservationManager.getInstance().release(projectName);
             String msg = "An error was detected during the start request on project " + projectName;
             if (Trace.isEnabled()) {
                 Trace.getTracer().trace(Trace.TRACE_TOOLS, msg, e);
@@ -242,13 +269,18 @@ public class DevModeOperations {
      * @param parms The configuration parameters to be used when starting dev mode.
      * @param javaHomePath The configuration java installation home to be set in the terminal running dev mode.
      * @param mode The configuration mode.
+     * @param useMavenDaemon True if the Maven Daemon (mvnd) should be used to run Maven projects when available.
+     * @param configName The name of the launch configuration used to start the project. It is used to record the start time.
      */
-    public void startInContainer(IProject iProject, String parms, String javaHomePath, String mode) {
+    public void startInContainer(IProject iProject, String parms, String javaHomePath, String mode, boolean useMavenDaemon, String configName) {
 
         if (Trace.isEnabled()) {
-            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { iProject, parms, javaHomePath, mode });
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS,
+                    new Object[] { iProject, parms, javaHomePath, mode, useMavenDaemon, configName });
         }
 
+        long startRequestTime = System.currentTimeMillis();
+
         if (iProject == null) {
             String msg = "An error was detected when the start in container request was processed. The object that represents the selected project was not found.";
             if (Trace.isEnabled()) {
@@ -301,6 +333,10 @@ public class DevModeOperations {
                 throw new Exception("Unable to find the path to selected project " + projectName);
             }
 
+            // Release any ports still reserved by a previous session.
+            PortReservationManager portManager = PortReservationManager.getInstance();
+            portManager.release(projectName);
+
             // If in debug mode, adjust the start parameters.
             String userParms = (parms == null) ? "" : parms.trim();
             String startParms = null;
@@ -312,12 +348,15 @@ public class DevModeOperations {
                 startParms = userParms;
             }
 
+            // Reserve the server's HTTP and HTTPS ports, overriding them if they are used by another session.
+            startParms = portManager.addServerPortsToStartParms(project, startParms);
+
             // Prepare the Liberty plugin container dev mode command.
             String cmd = "";
             BuildType buildType = project.getBuildType();
             if (buildType == Project.BuildType.MAVEN) {
                 cmd = CommandBuilder.getMavenCommandLine(projectPath, "io.openliberty.tools:liberty-maven-plugin:devc " + startParms,
-                        pathEnv, true);
+                        pathEnv, true, useMavenDaemon);
             } else if (buildType == Project.BuildType.GRADLE) {
                 cmd = CommandBuilder.getGradleCommandLine(projectPath, "libertyDevc " + startParms, pathEnv, true);
             } else {
@@ -332,7 +371,20 @@ public class DevModeOperations {
 
             // Start a terminal and run the application in dev mode.
             startDevMode(cmd, projectName, projectPath, javaHomePath);
+
+            // Release the ports reserved by this session when its terminal is cleaned up.
+            portManager.releaseOnTerminalCleanup(projectName);
+
+            // Monitor the Liberty server files created by dev mode, and index the server messages.
+            ServerFileMonitor serverFileMonitor = ServerFileMonitor.getInstance();
+            serverFileMonitor.watch(project);
+            MessagesLogIndex.getInstance().clear(projectName);
+            serverFileMonitor.addMessagesLogListener(projectName, MessagesLogIndex.getInstance());
+
+            // Record the start timeline.
+            StartTimeRecorder.startRecording(project, configName, startRequestTime);
         } catch (Exception e) {
+            PortReservationManager.getInstance().release(projectName);
             String msg = "An error was detected during the start in container request on project " + projectName;
             if (Trace.isEnabled()) {
                 Trace.getTracer().trace(Trace.TRACE_TOOLS, msg, e);
@@ -773,13 +825,14 @@ public class DevModeOperations {
     }
 
     /**
-     * Issues the Liberty plugin stop command to stop the Liberty server associated with the specified project.
+     * Issues the Liberty plugin stop command to stop the Liberty server associated with the specified project. The command is
+     * processed by a background job. The caller is not blocked.
      * 
      * @param projectName The name of the project for which the the Liberty plugin stop command is issued.
      */
     private void issueLPStopCommand(String projectName) {
         if (Trace.isEnabled()) {
-            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, projectName);
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, projectName);
         }
 
         try {
@@ -796,30 +849,42 @@ public class DevModeOperations {
             }
 
             // Build the command.
-            String cmd = "";
+            List<String> cmd = null;
             BuildType buildType = project.getBuildType();
             if (buildType == Project.BuildType.MAVEN) {
-                cmd = CommandBuilder.getMavenCommandLine(projectPath, "io.openliberty.tools:liberty-maven-plugin:stop", pathEnv, false);
+                cmd = CommandBuilder.getMavenCommandList(projectPath, pathEnv, "io.openliberty.tools:liberty-maven-plugin:stop");
             } else if (buildType == Project.BuildType.GRADLE) {
-                cmd = CommandBuilder.getGradleCommandLine(projectPath, "libertyStop", pathEnv, false);
+                cmd = CommandBuilder.getGradleCommandList(projectPath, pathEnv, "libertyStop");
             } else {
                 throw new Exception("Unexpected project build type: " + buildType + ". Project " + projectName
                         + "does not appear to be a Maven or Gradle built project.");
             }
 
-            // Issue the command.
-            String[] cmdParts = cmd.split(" ");
-            ProcessBuilder pb = new ProcessBuilder(cmdParts);
-            pb.directory(new File(projectPath));
-            Process p = pb.start();
-            boolean completed = p.waitFor(30, TimeUnit.SECONDS);
-            if (!completed) {
-                String msg = "The Liberty plugin stop command issued for project " + projectName + " timed out after 30 seconds.";
+            // Find the Liberty servers directory. It is used to track the server's progress. Stop processing does not depend on it.
+            Path serversPath = null;
+            try {
+                serversPath = DebugModeHandler.getLibertyServersPath(DebugModeHandler.getLibertyServerProject(project));
+            } catch (Exception e) {
                 if (Trace.isEnabled()) {
-                    Trace.getTracer().trace(Trace.TRACE_TOOLS, msg);
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to find the Liberty servers directory for project " + projectName, e);
                 }
-                ErrorHandler.processErrorMessage(msg, false);
             }
+
+            // Issue the command.
+            LibertyPluginStopJob job = new LibertyPluginStopJob(projectName, projectPath, cmd, serversPath);
+            job.addJobChangeListener(new JobChangeAdapter() {
+                @Override
+                public void done(IJobChangeEvent event) {
+                    IStatus result = event.getResult();
+                    if (result.getSeverity() == IStatus.ERROR) {
+                        if (Trace.isEnabled()) {
+                            Trace.getTracer().trace(Trace.TRACE_TOOLS, result.getMessage(), result.getException());
+                        }
+                        ErrorHandler.processErrorMessage(result.getMessage(), result.getException(), false);
+                    }
+                }
+            });
+            job.schedule();
         } catch (Exception e) {
             String msg = "An error was detected while processing the Liberty plugin stop command on project " + projectName;
             if (Trace.isEnabled()) {
@@ -38,6 +38,8 @@ import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
 
 import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.ui.launch.JavaInstallCache;
+import io.openliberty.tools.eclipse.ui.launch.LaunchConfigurationHelper;
 import io.openliberty.tools.eclipse.ui.launch.StartTab;
 import io.openliberty.tools.eclipse.ui.terminal.ProjectTab;
 import io.openliberty.tools.eclipse.ui.terminal.ProjectTabController;
@@ -131,6 +133,9 @@ public class LibertyDevPlugin extends AbstractUIPlugin {
     private void unregisterListeners() {
         unregisterResourceChangeListener();
         unregisterPartListener();
+        RemoteJavaAppConfigIndex.dispose();
+        LaunchConfigurationHelper.dispose();
+        JavaInstallCache.dispose();
     }
 
     /**
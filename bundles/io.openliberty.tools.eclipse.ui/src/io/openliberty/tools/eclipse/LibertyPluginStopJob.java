@@ -0,0 +1,252 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.utils.ErrorHandler;
+
+/**
+ * Runs the Liberty plugin stop command (liberty:stop/libertyStop) in the background.
+ *
+ * The job tracks the build tool process, its descendants, and the Liberty server JVM (when it can be identified). It completes
+ * when the server reports that it stopped (CWWKE0036I) or when the tracked processes exit. If that does not happen within
+ * {@link #STOP_TIMEOUT_SECS} seconds, or if the stop command fails while the server is still running, the tracked processes are
+ * destroyed. A failure of the stop command is reported before the processes are destroyed.
+ */
+public class LibertyPluginStopJob extends Job {
+
+    /** Liberty server stopped message ID. */
+    public static final String SERVER_STOPPED_MSG_ID = "CWWKE0036I";
+
+    /** Maximum number of seconds to wait for the server to stop before the tracked processes are destroyed. */
+    public static final int STOP_TIMEOUT_SECS = 30;
+
+    /** Number of seconds to wait for processes to exit after a graceful destroy request, before forcibly destroying them. */
+    private static final int DESTROY_GRACE_SECS = 5;
+
+    /** Interval at which the process and messages.log states are checked. */
+    private static final long POLL_INTERVAL_MILLIS = 250;
+
+    /** The name of the project being stopped. */
+    private String projectName;
+
+    /** The directory from which the command is run. */
+    private String projectPath;
+
+    /** The stop command and its arguments. */
+    private List<String> command;
+
+    /** The Liberty servers directory (wlp/usr/servers) associated with the project. It may be null. */
+    private Path serversPath;
+
+    /**
+     * Constructor.
+     *
+     * @param projectName The name of the project being stopped.
+     * @param projectPath The directory from which the command is run.
+     * @param command The stop command and its arguments.
+     * @param serversPath The Liberty servers directory (wlp/usr/servers) associated with the project. It may be null.
+     */
+    public LibertyPluginStopJob(String projectName, String projectPath, List<String> command, Path serversPath) {
+        super("Stopping the Liberty server for project " + projectName + "...");
+        this.projectName = projectName;
+        this.projectPath = projectPath;
+        this.command = command;
+        this.serversPath = serversPath;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectName, command, serversPath });
+        }
+
+        // Only consider messages written after the stop request.
+        MessagesLogTailer messagesLog = new MessagesLogTailer(serversPath, true);
+
+        // Find the server JVM before the stop command is issued. It is tracked for completion and, if needed, destroyed.
+        ProcessHandle serverJvm = findServerJvm(projectName, serversPath);
+
+        Process process;
+        try {
+            ProcessBuilder pb = new ProcessBuilder(command);
+            pb.directory(new File(projectPath));
+            pb.redirectErrorStream(true);
+            pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            process = pb.start();
+        } catch (IOException e) {
+            return new Status(IStatus.ERROR, LibertyDevPlugin.PLUGIN_ID,
+                    "An error was detected while processing the Liberty plugin stop command on project " + projectName, e);
+        }
+
+        List<ProcessHandle> tracked = new ArrayList<ProcessHandle>();
+        tracked.add(process.toHandle());
+        if (serverJvm != null) {
+            tracked.add(serverJvm);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STOP_TIMEOUT_SECS);
+        long serverStoppedTime = 0;
+        boolean stopMsgFound = false;
+
+        try {
+            while (true) {
+                if (monitor.isCanceled()) {
+                    destroy(process, tracked);
+                    return Status.CANCEL_STATUS;
+                }
+
+                // Collect any new descendants of the build tool process so that they are cleaned up if needed.
+                process.descendants().filter(ph -> !tracked.contains(ph)).forEach(tracked::add);
+
+                if (!stopMsgFound) {
+                    stopMsgFound = messagesLog.readNew().contains(SERVER_STOPPED_MSG_ID);
+                }
+
+                boolean buildExited = !process.isAlive();
+                boolean serverExited = (serverJvm != null) && !serverJvm.isAlive();
+
+                if (stopMsgFound || serverExited) {
+                    if (buildExited) {
+                        break;
+                    }
+
+                    // The server is down. Give the build tool a short time to finish on its own.
+                    if (serverStoppedTime == 0) {
+                        serverStoppedTime = System.nanoTime();
+                    } else if (System.nanoTime() - serverStoppedTime > TimeUnit.SECONDS.toNanos(DESTROY_GRACE_SECS)) {
+                        destroy(process, tracked);
+                        break;
+                    }
+                } else if (buildExited && (serverJvm == null)) {
+                    // The server JVM could not be identified. The exit of the build tool process is the completion signal.
+                    int rc = process.exitValue();
+                    if (rc != 0) {
+                        return new Status(IStatus.ERROR, LibertyDevPlugin.PLUGIN_ID,
+                                "The Liberty plugin stop command issued for project " + projectName + " ended with exit code " + rc + ".");
+                    }
+                    break;
+                } else if (buildExited && process.exitValue() != 0) {
+                    // The stop command failed and the server is still running. Report the failure before the server is destroyed.
+                    String msg = "The Liberty plugin stop command issued for project " + projectName + " ended with exit code "
+                            + process.exitValue() + ". The Liberty server will be stopped forcibly.";
+                    if (Trace.isEnabled()) {
+                        Trace.getTracer().trace(Trace.TRACE_TOOLS, msg);
+                    }
+                    ErrorHandler.processErrorMessage(msg, false);
+
+                    destroy(process, tracked);
+                    return new Status(IStatus.ERROR, LibertyDevPlugin.PLUGIN_ID, "The Liberty server for project " + projectName
+                            + " was stopped forcibly because the Liberty plugin stop command failed.");
+                }
+
+                if (System.nanoTime() > deadline) {
+                    destroy(process, tracked);
+                    return new Status(IStatus.ERROR, LibertyDevPlugin.PLUGIN_ID, "The Liberty plugin stop command issued for project "
+                            + projectName + " timed out after " + STOP_TIMEOUT_SECS + " seconds.");
+                }
+
+                process.waitFor(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            destroy(process, tracked);
+            Thread.currentThread().interrupt();
+            return Status.CANCEL_STATUS;
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, Boolean.valueOf(stopMsgFound));
+        }
+
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Returns the handle of the running Liberty server JVM associated with the project, or null if it cannot be identified.
+     * Process command lines are not available on all platforms.
+     *
+     * @param projectName The name of the project.
+     * @param serversPath The Liberty servers directory (wlp/usr/servers) associated with the project. It may be null.
+     *
+     * @return The handle of the running Liberty server JVM associated with the project, or null if it cannot be identified.
+     */
+    static ProcessHandle findServerJvm(String projectName, Path serversPath) {
+        if (serversPath == null) {
+            return null;
+        }
+
+        // The server JVM runs ws-server.jar from the wlp install directory that contains the servers directory.
+        String wlpPath = serversPath.getParent().getParent().toString();
+        Optional<ProcessHandle> serverJvm = ProcessHandle.allProcesses().filter(ph -> {
+            Optional<String> cmdLine = ph.info().commandLine();
+            return cmdLine.isPresent() && cmdLine.get().contains("ws-server.jar") && cmdLine.get().contains(wlpPath);
+        }).findFirst();
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Liberty server JVM for project " + projectName + ": " + serverJvm);
+        }
+
+        return serverJvm.orElse(null);
+    }
+
+    /**
+     * Destroys the build tool process and all tracked processes. Processes that do not exit within the grace period are
+     * destroyed forcibly.
+     *
+     * @param process The build tool process.
+     * @param tracked The tracked process handles.
+     */
+    private void destroy(Process process, List<ProcessHandle> tracked) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Destroying Liberty plugin stop command processes for project " + projectName
+                    + ": " + tracked);
+        }
+
+        // Destroy the children before the parents so that no process is orphaned.
+        process.descendants().filter(ph -> !tracked.contains(ph)).forEach(tracked::add);
+        for (int i = tracked.size() - 1; i >= 0; i--) {
+            tracked.get(i).destroy();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DESTROY_GRACE_SECS);
+        for (ProcessHandle ph : tracked) {
+            long remaining = deadline - System.nanoTime();
+            try {
+                if (remaining > 0) {
+                    ph.onExit().get(remaining, TimeUnit.NANOSECONDS);
+                }
+            } catch (Exception e) {
+                // Timed out or interrupted. Fall through to the forcible destroy.
+            }
+            if (ph.isAlive()) {
+                ph.destroyForcibly();
+            }
+        }
+    }
+}
@@ -20,6 +20,8 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.swt.widgets.Display;
 
 public class LibertyResourceChangeListener implements IResourceChangeListener {
@@ -57,6 +59,15 @@ public class LibertyResourceChangeListener implements IResourceChangeListener {
                     projectsChanged.add(iProject);
                     Project project = db.getProject(iProject.getName());
 
+                    // If any of the project's wrapper files were added, removed, or updated, the cached build command is no
+                    // longer valid.
+                    if (isWrapperChanged(resourceChanged)) {
+                        IPath location = iProject.getLocation();
+                        if (location != null) {
+                            CommandBuilder.invalidateCachedCommands(location.toOSString());
+                        }
+                    }
+
                     int updateFlag = resourceChanged.getFlags();
 
                     switch (resourceChanged.getKind()) {
@@ -102,4 +113,21 @@ public class LibertyResourceChangeListener implements IResourceChangeListener {
         });
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns true if the input project delta contains changes to any of the files that determine whether or not a Maven or
+     * Gradle wrapper is used to run the project. False, otherwise.
+     * 
+     * @param projectDelta The project resource delta.
+     * 
+     * @return True if the input project delta contains changes to any of the project's wrapper files. False, otherwise.
+     */
+    private boolean isWrapperChanged(IResourceDelta projectDelta) {
+        for (String wrapperFile : CommandBuilder.WRAPPER_FILES) {
+            if (projectDelta.findMember(new Path(wrapperFile)) != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,357 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * In-memory index of the messages written to the messages.log file of the Liberty servers run by dev mode.
+ *
+ * The index is fed incrementally by the {@link ServerFileMonitor}, so the log is never read as a whole. For each project it keeps
+ * the number of messages per message code and per severity, and the most recent warning and error entries with their line
+ * numbers.
+ */
+public class MessagesLogIndex implements MessagesLogListener {
+
+    /** Maximum number of warning and error entries kept per project. */
+    public static final int MAX_ENTRIES = 500;
+
+    /** Maximum number of characters of an entry's message that are kept. */
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    /**
+     * Pattern of a messages.log entry: [date time zone] threadId loggerName eventType message. For example:
+     * [10/19/23, 10:15:01:123 EDT] 00000023 com.ibm.ws.kernel.feature.internal.FeatureManager A CWWKF0011I: The server is ready.
+     */
+    private static final Pattern ENTRY_PATTERN = Pattern.compile("^\\[[^\\]]*\\]\\s+\\S+\\s+\\S+\\s+([A-Z])\\s(.*)$");
+
+    /** Pattern of a message code at the start of a message. For example: CWWKF0011I. */
+    private static final Pattern CODE_PATTERN = Pattern.compile("^([A-Z][A-Z0-9]{3,4}\\d{4}([A-Z]))[:\\s]");
+
+    /** Message severities. */
+    public static enum Severity {
+        INFO, AUDIT, WARNING, ERROR
+    };
+
+    /** The instance of this class. */
+    private static MessagesLogIndex instance;
+
+    /** The per-project indexes, keyed by project name. */
+    private final Map<String, ProjectIndex> indexes = new ConcurrentHashMap<String, ProjectIndex>();
+
+    /** Listeners called when the warning or error counts of a project change. */
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<Runnable>();
+
+    /**
+     * Constructor.
+     */
+    private MessagesLogIndex() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized MessagesLogIndex getInstance() {
+        if (instance == null) {
+            instance = new MessagesLogIndex();
+        }
+
+        return instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void linesAppended(String projectName, String lines, long offset) {
+        ProjectIndex index = indexes.computeIfAbsent(projectName, k -> new ProjectIndex());
+        boolean changed;
+        synchronized (index) {
+            changed = index.add(lines, offset);
+        }
+
+        if (changed) {
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of messages of the input severity written by the input project's server.
+     *
+     * @param projectName The project name.
+     * @param severity The severity.
+     *
+     * @return The number of messages of the input severity written by the input project's server.
+     */
+    public int getCount(String projectName, Severity severity) {
+        ProjectIndex index = indexes.get(projectName);
+        if (index == null) {
+            return 0;
+        }
+
+        synchronized (index) {
+            return index.severityCounts[severity.ordinal()];
+        }
+    }
+
+    /**
+     * Returns the number of messages with the input code written by the input project's server.
+     *
+     * @param projectName The project name.
+     * @param code The message code. For example: CWWKF0011I.
+     *
+     * @return The number of messages with the input code written by the input project's server.
+     */
+    public int getCount(String projectName, String code) {
+        ProjectIndex index = indexes.get(projectName);
+        if (index == null) {
+            return 0;
+        }
+
+        synchronized (index) {
+            Integer count = index.codeCounts.get(code);
+            return (count != null) ? count.intValue() : 0;
+        }
+    }
+
+    /**
+     * Returns the most recent warning and error entries written by the input project's server, oldest first.
+     *
+     * @param projectName The project name.
+     *
+     * @return The most recent warning and error entries written by the input project's server, oldest first.
+     */
+    public List<Entry> getEntries(String projectName) {
+        ProjectIndex index = indexes.get(projectName);
+        if (index == null) {
+            return new ArrayList<Entry>();
+        }
+
+        synchronized (index) {
+            return new ArrayList<Entry>(index.entries);
+        }
+    }
+
+    /**
+     * Removes the index of the input project.
+     *
+     * @param projectName The project name.
+     */
+    public void clear(String projectName) {
+        if (indexes.remove(projectName) != null) {
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Adds a listener that is called when the warning or error counts of a project change. Listeners may be called on any thread.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes the input listener.
+     *
+     * @param listener The listener.
+     */
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the severity of a message.
+     *
+     * @param eventType The event type character of the entry.
+     * @param codeSuffix The last character of the message code, or 0 if the message has no code.
+     *
+     * @return The severity of a message.
+     */
+    public static Severity getSeverity(char eventType, char codeSuffix) {
+        char type = (codeSuffix != 0) ? codeSuffix : eventType;
+        switch (type) {
+        case 'E':
+        case 'F':
+            return Severity.ERROR;
+        case 'W':
+            return Severity.WARNING;
+        case 'A':
+            return Severity.AUDIT;
+        default:
+            return Severity.INFO;
+        }
+    }
+
+    /**
+     * A warning or error entry.
+     */
+    public static class Entry {
+
+        private final int lineNumber;
+
+        private final String code;
+
+        private final Severity severity;
+
+        private final String message;
+
+        public Entry(int lineNumber, String code, Severity severity, String message) {
+            this.lineNumber = lineNumber;
+            this.code = code;
+            this.severity = severity;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the message code.
+         *
+         * @return The message code, or null if the message has no code.
+         */
+        public String getCode() {
+            return code;
+        }
+
+        public Severity getSeverity() {
+            return severity;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + " [" + severity + "] " + message;
+        }
+    }
+
+    /**
+     * The index of a single project's messages.log.
+     */
+    static class ProjectIndex {
+
+        /** The number of lines indexed. */
+        int lineCount;
+
+        final int[] severityCounts = new int[Severity.values().length];
+
+        final Map<String, Integer> codeCounts = new HashMap<String, Integer>();
+
+        final ArrayDeque<Entry> entries = new ArrayDeque<Entry>();
+
+        /**
+         * Indexes the input lines.
+         *
+         * @param lines The complete lines to index.
+         * @param offset The file offset of the first line.
+         *
+         * @return True if the warning or error counts changed. False, otherwise.
+         */
+        boolean add(String lines, long offset) {
+            boolean changed = false;
+
+            // The file was rolled over. Start again.
+            if (offset == 0 && lineCount > 0) {
+                lineCount = 0;
+                Arrays.fill(severityCounts, 0);
+                codeCounts.clear();
+                entries.clear();
+                changed = true;
+            }
+
+            int start = 0;
+            int length = lines.length();
+            while (start < length) {
+                int end = lines.indexOf('\n', start);
+                if (end < 0) {
+                    end = length;
+                }
+                lineCount++;
+                changed |= indexLine(lines.substring(start, (end > start && lines.charAt(end - 1) == '\r') ? end - 1 : end));
+                start = end + 1;
+            }
+
+            if (Trace.isEnabled() && changed) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Messages log index updated. Lines: " + lineCount + ". Errors: "
+                        + severityCounts[Severity.ERROR.ordinal()] + ". Warnings: " + severityCounts[Severity.WARNING.ordinal()]);
+            }
+
+            return changed;
+        }
+
+        /**
+         * Indexes a single line. Lines that do not start an entry, such as stack trace lines, are ignored.
+         *
+         * @param line The line.
+         *
+         * @return True if the line is a warning or an error. False, otherwise.
+         */
+        private boolean indexLine(String line) {
+            Matcher entryMatcher = ENTRY_PATTERN.matcher(line);
+            if (!entryMatcher.matches()) {
+                return false;
+            }
+
+            String message = entryMatcher.group(2);
+            String code = null;
+            char codeSuffix = 0;
+            Matcher codeMatcher = CODE_PATTERN.matcher(message);
+            if (codeMatcher.find()) {
+                code = codeMatcher.group(1);
+                codeSuffix = codeMatcher.group(2).charAt(0);
+                codeCounts.merge(code, 1, Integer::sum);
+            }
+
+            Severity severity = getSeverity(entryMatcher.group(1).charAt(0), codeSuffix);
+            severityCounts[severity.ordinal()]++;
+
+            if (severity != Severity.WARNING && severity != Severity.ERROR) {
+                return false;
+            }
+
+            if (entries.size() == MAX_ENTRIES) {
+                entries.removeFirst();
+            }
+            String shortMessage = (message.length() > MAX_MESSAGE_LENGTH) ? message.substring(0, MAX_MESSAGE_LENGTH) + "..." : message;
+            entries.addLast(new Entry(lineCount, code, severity, shortMessage));
+
+            return true;
+        }
+    }
+}
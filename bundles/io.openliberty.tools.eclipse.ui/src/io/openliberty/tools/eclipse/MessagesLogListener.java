@@ -0,0 +1,28 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+/**
+ * Messages Log Listener
+ */
+public interface MessagesLogListener {
+
+    /**
+     * Processes the lines appended to a Liberty server's messages.log file.
+     *
+     * @param projectName The name of the project that runs the server.
+     * @param lines The complete lines appended to the file since the last call.
+     * @param offset The file offset of the first line. An offset of zero indicates that the file was created or rolled over.
+     */
+    public void linesAppended(String projectName, String lines, long offset);
+}
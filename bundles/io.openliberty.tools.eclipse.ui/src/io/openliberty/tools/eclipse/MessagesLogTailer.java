@@ -0,0 +1,225 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Reads the content appended to a Liberty server's messages.log file since the last read.
+ *
+ * The messages.log file is found under the Liberty servers directory (wlp/usr/servers) created by the build tool. The file may
+ * not exist when the tailer is created, and it may be rolled over by the server. Only complete lines are returned, and only the
+ * region appended since the last read is read from disk. The bytes of a partial last line, which may end in the middle of a
+ * multibyte character, are kept until the line is complete.
+ */
+public class MessagesLogTailer {
+
+    /** Liberty server messages log file name. */
+    public static final String MESSAGES_LOG_FILE_NAME = "messages.log";
+
+    /** Number of bytes after which a single read stops reading the file. */
+    public static final int MAX_READ_BYTES = 4 * 1024 * 1024;
+
+    /** Size of the buffer the file is read into. */
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    /** The Liberty servers directory (wlp/usr/servers). */
+    private Path serversPath;
+
+    /** The messages.log path. It is null until the file is found. */
+    private Path messagesLogPath;
+
+    /** The key identifying the file being read. Used to detect roll overs on platforms that provide file keys. */
+    private Object fileKey;
+
+    /** The offset of the next byte to read. */
+    private long offset;
+
+    /** The offset of the content returned by the last read. */
+    private long lastReadOffset;
+
+    /** The buffer the file is read into, reused across reads. Between reads, it holds the bytes of the partial last line. */
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+
+    /**
+     * Constructor.
+     *
+     * @param serversPath The Liberty servers directory (wlp/usr/servers). It may be null.
+     * @param skipExisting True to ignore the content that already exists in the file. False to read the file from the start.
+     */
+    public MessagesLogTailer(Path serversPath, boolean skipExisting) {
+        this.serversPath = serversPath;
+
+        if (skipExisting && locate()) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(messagesLogPath, BasicFileAttributes.class);
+                offset = attrs.size();
+                fileKey = attrs.fileKey();
+            } catch (IOException e) {
+                offset = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the complete lines appended to the messages.log file since the last call. A call stops reading the file once
+     * {@link #MAX_READ_BYTES} bytes were returned.
+     *
+     * @return The complete lines appended to the messages.log file since the last call. An empty string if there are none.
+     */
+    public String readNew() {
+        if (!locate()) {
+            return "";
+        }
+
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(messagesLogPath, BasicFileAttributes.class);
+            long length = attrs.size();
+
+            // The server rolls over messages.log when it starts and when the file reaches its maximum size.
+            if (length < offset || (fileKey != null && !fileKey.equals(attrs.fileKey()))) {
+                offset = 0;
+                buffer.clear();
+            }
+            fileKey = attrs.fileKey();
+            lastReadOffset = offset - buffer.position();
+
+            if (length == offset) {
+                return "";
+            }
+
+            // Only read the appended region. The file is not mapped, since a mapped file cannot be renamed or deleted on Windows,
+            // which would prevent the server from rolling it over.
+            StringBuilder lines = new StringBuilder();
+            int returnedBytes = 0;
+            try (FileChannel channel = FileChannel.open(messagesLogPath, StandardOpenOption.READ)) {
+                while (offset < length && returnedBytes < MAX_READ_BYTES) {
+                    int count = channel.read(buffer, offset);
+                    if (count < 0) {
+                        break;
+                    }
+                    offset += count;
+                    returnedBytes += consumeLines(lines);
+                }
+            }
+
+            return lines.toString();
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to read " + messagesLogPath, e);
+            }
+            return "";
+        }
+    }
+
+    /**
+     * Decodes the complete lines held by the buffer, and keeps the partial last line in the buffer. A line that fills the whole
+     * buffer is decoded up to its last complete character.
+     *
+     * @param lines The decoded lines.
+     *
+     * @return The number of bytes decoded.
+     */
+    private int consumeLines(StringBuilder lines) {
+        // A line feed byte is never part of a multibyte UTF-8 character, so a line never ends in the middle of a character.
+        int end = buffer.position();
+        while (end > 0 && buffer.get(end - 1) != '\n') {
+            end--;
+        }
+        if (end == 0 && !buffer.hasRemaining()) {
+            end = buffer.position();
+            int last = end - 1;
+            while (last > 0 && (buffer.get(last) & 0xC0) == 0x80) {
+                last--;
+            }
+            int lead = buffer.get(last) & 0xFF;
+            int charLength = (lead >= 0xF0) ? 4 : (lead >= 0xE0) ? 3 : (lead >= 0xC0) ? 2 : 1;
+            if (end - last < charLength && last > 0) {
+                end = last;
+            }
+        }
+        if (end == 0) {
+            return 0;
+        }
+
+        buffer.flip();
+        int limit = buffer.limit();
+        buffer.limit(end);
+        lines.append(StandardCharsets.UTF_8.decode(buffer));
+        buffer.limit(limit);
+        buffer.compact();
+
+        return end;
+    }
+
+    /**
+     * Returns the file offset of the content returned by the last call to {@link #readNew()}. An offset of zero after content was
+     * read indicates that the file was rolled over.
+     *
+     * @return The file offset of the content returned by the last call to {@link #readNew()}.
+     */
+    public long getLastReadOffset() {
+        return lastReadOffset;
+    }
+
+    /**
+     * Finds the messages.log file if it was not found yet.
+     *
+     * @return True if the messages.log file was found. False, otherwise.
+     */
+    private boolean locate() {
+        if (messagesLogPath == null) {
+            messagesLogPath = findMessagesLog(serversPath);
+        }
+
+        return messagesLogPath != null && Files.exists(messagesLogPath);
+    }
+
+    /**
+     * Returns the path of the Liberty server's messages.log file, or null if it does not exist or it cannot be uniquely identified.
+     *
+     * @param serversPath The Liberty servers directory (wlp/usr/servers).
+     *
+     * @return The path of the Liberty server's messages.log file, or null if it does not exist or it cannot be uniquely
+     *         identified.
+     */
+    public static Path findMessagesLog(Path serversPath) {
+        if (serversPath == null || !Files.isDirectory(serversPath)) {
+            return null;
+        }
+
+        try (Stream<Path> matchedStream = Files.find(serversPath, 3,
+                (path, attrs) -> attrs.isRegularFile() && path.getFileName().toString().equals(MESSAGES_LOG_FILE_NAME)
+                        && path.getParent().getFileName().toString().equals("logs"))) {
+            List<Path> matchedPaths = matchedStream.collect(Collectors.toList());
+            return (matchedPaths.size() == 1) ? matchedPaths.get(0) : null;
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to search for messages.log under " + serversPath, e);
+            }
+            return null;
+        }
+    }
+}
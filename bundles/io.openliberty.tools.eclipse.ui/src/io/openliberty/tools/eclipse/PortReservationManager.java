@@ -0,0 +1,485 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import io.openliberty.tools.eclipse.Project.BuildType;
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.ui.preferences.LibertyToolsPreferencePage;
+import io.openliberty.tools.eclipse.ui.terminal.TerminalListener;
+import io.openliberty.tools.eclipse.utils.ErrorHandler;
+
+/**
+ * Plugin-wide allocator of the ports used by the Liberty servers started in dev mode.
+ *
+ * Each port handed out is owned by the project whose dev mode session uses it until the session's terminal is cleaned up, so
+ * sessions started in parallel never receive the same port. Ports are checked for availability when they are reserved, which is
+ * immediately before dev mode is launched. New ports are taken from the range set in the Liberty Tools preferences, or from the
+ * ephemeral ports assigned by the operating system if no range is set.
+ */
+public class PortReservationManager {
+
+    /** Maven: Argument prefix used to set a Liberty server variable. */
+    public static final String MAVEN_LIBERTY_VAR_PARM = "-Dliberty.var.";
+
+    /** Gradle: Argument prefix used to set a Liberty server variable. */
+    public static final String GRADLE_LIBERTY_VAR_PARM = "-Pliberty.var.";
+
+    /** Liberty server HTTP port variable name. */
+    public static final String HTTP_PORT_VARIABLE = "default.http.port";
+
+    /** Liberty server HTTPS port variable name. */
+    public static final String HTTPS_PORT_VARIABLE = "default.https.port";
+
+    /** Liberty default HTTP port. */
+    private static final String DEFAULT_HTTP_PORT = "9080";
+
+    /** Liberty default HTTPS port. */
+    private static final String DEFAULT_HTTPS_PORT = "9443";
+
+    /** Maximum number of attempts made to get an ephemeral port that is not reserved. */
+    private static final int MAX_EPHEMERAL_ATTEMPTS = 10;
+
+    /** Pattern of an XML comment. */
+    private static final Pattern COMMENT_PATTERN = Pattern.compile("<!--.*?-->", Pattern.DOTALL);
+
+    /** Pattern of an httpEndpoint element. The attributes are captured. */
+    private static final Pattern HTTP_ENDPOINT_PATTERN = Pattern.compile("<httpEndpoint\\b([^>]*)>");
+
+    /** Pattern of a variable element. The attributes are captured. */
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("<variable\\b([^>]*)>");
+
+    /** Pattern of an XML attribute. */
+    private static final Pattern ATTRIBUTE_PATTERN = Pattern.compile("([\\w.-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+
+    /** Pattern of a variable reference. For example: ${default.http.port}. */
+    private static final Pattern VARIABLE_REFERENCE_PATTERN = Pattern.compile("^\\$\\{([^}]+)\\}$");
+
+    /** The instance of this class. */
+    private static PortReservationManager instance;
+
+    /** The owner project name of each reserved port. */
+    private final Map<Integer, String> owners = new HashMap<Integer, String>();
+
+    /** The port at which the next search of the preferred range starts. */
+    private int nextRangePort;
+
+    /**
+     * Constructor.
+     */
+    private PortReservationManager() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized PortReservationManager getInstance() {
+        if (instance == null) {
+            instance = new PortReservationManager();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Reserves a free port for the input project.
+     *
+     * @param projectName The name of the project that will use the port.
+     *
+     * @return The reserved port.
+     *
+     * @throws IOException If no free port could be found.
+     */
+    public synchronized int reserve(String projectName) throws IOException {
+        int[] range = getPreferredRange();
+        int port = (range != null) ? findFreePortInRange(range[0], range[1]) : findFreeEphemeralPort();
+        owners.put(port, projectName);
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Port " + port + " reserved for project " + projectName);
+        }
+
+        return port;
+    }
+
+    /**
+     * Reserves the input port for the input project if it is not reserved by another project and it is available.
+     *
+     * @param projectName The name of the project that will use the port.
+     * @param port The port to reserve.
+     *
+     * @return True if the port was reserved. False, otherwise.
+     */
+    public synchronized boolean reserve(String projectName, int port) {
+        String owner = owners.get(port);
+        if (owner != null) {
+            return owner.equals(projectName);
+        }
+
+        if (!isAvailable(port)) {
+            return false;
+        }
+
+        owners.put(port, projectName);
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Port " + port + " reserved for project " + projectName);
+        }
+
+        return true;
+    }
+
+    /**
+     * Releases the ports reserved for the input project.
+     *
+     * @param projectName The project name.
+     */
+    public synchronized void release(String projectName) {
+        Iterator<Map.Entry<Integer, String>> entries = owners.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Integer, String> entry = entries.next();
+            if (entry.getValue().equals(projectName)) {
+                entries.remove();
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Port " + entry.getKey() + " released by project " + projectName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the ports reserved for the input project when the project's dev mode terminal is cleaned up.
+     *
+     * @param projectName The project name.
+     */
+    public void releaseOnTerminalCleanup(String projectName) {
+        DevModeOperations.getInstance().registerTerminalListener(projectName, new TerminalListener() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void cleanup() {
+                release(projectName);
+            }
+        });
+    }
+
+    /**
+     * Returns the name of the project that reserved the input port.
+     *
+     * @param port The port.
+     *
+     * @return The name of the project that reserved the input port, or null if the port is not reserved.
+     */
+    public synchronized String getOwner(int port) {
+        return owners.get(port);
+    }
+
+    /**
+     * Reserves the HTTP and HTTPS ports configured in the input project's server.xml. If a port that is set through a server
+     * variable is reserved by another project or is in use, a free port is reserved instead, and the variable is overridden in the
+     * returned start parameters.
+     *
+     * @param project The project being started.
+     * @param startParms The dev mode start parameters.
+     *
+     * @return The start parameters, including any server variable overrides.
+     *
+     * @throws Exception If the project build type is not supported.
+     */
+    public String addServerPortsToStartParms(Project project, String startParms) throws Exception {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { project.getName(), startParms });
+        }
+
+        String projectName = project.getName();
+        String varParm = null;
+        BuildType buildType = project.getBuildType();
+        if (buildType == BuildType.MAVEN) {
+            varParm = MAVEN_LIBERTY_VAR_PARM;
+        } else if (buildType == BuildType.GRADLE) {
+            varParm = GRADLE_LIBERTY_VAR_PARM;
+        } else {
+            throw new Exception("Unexpected project build type: " + buildType + ". Project " + projectName
+                    + "does not appear to be a Maven or Gradle built project.");
+        }
+
+        Path configPath = Paths.get(DebugModeHandler.getLibertyServerProject(project).getPath(), "src", "main", "liberty", "config");
+        Path serverXmlPath = configPath.resolve("server.xml");
+        if (!Files.isRegularFile(serverXmlPath)) {
+            return startParms;
+        }
+
+        String serverXml = new String(Files.readAllBytes(serverXmlPath), StandardCharsets.UTF_8);
+        Map<String, String> variables = getVariables(serverXml, configPath.resolve("bootstrap.properties"));
+
+        StringBuilder updatedParms = new StringBuilder(startParms);
+        for (String portValue : getHttpEndpointPorts(serverXml)) {
+            String variable = null;
+            String resolvedValue = portValue;
+            boolean userSet = false;
+
+            Matcher referenceMatcher = VARIABLE_REFERENCE_PATTERN.matcher(portValue);
+            if (referenceMatcher.matches()) {
+                variable = referenceMatcher.group(1);
+                resolvedValue = getParmValue(startParms, varParm + variable);
+                userSet = resolvedValue != null;
+                if (resolvedValue == null) {
+                    resolvedValue = variables.get(variable);
+                }
+            }
+
+            if (resolvedValue == null) {
+                continue;
+            }
+
+            int port;
+            try {
+                port = Integer.parseInt(resolvedValue.trim());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+
+            // A negative port disables the endpoint.
+            if (port <= 0 || reserve(projectName, port)) {
+                continue;
+            }
+
+            String owner = getOwner(port);
+            if (variable != null && !userSet) {
+                int newPort = reserve(projectName);
+                updatedParms.append((updatedParms.length() == 0) ? "" : " ").append(varParm).append(variable).append('=').append(newPort);
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Port " + port + " of server variable " + variable + " is "
+                            + ((owner != null) ? "reserved by project " + owner : "in use") + ". Using port " + newPort + " instead.");
+                }
+            } else {
+                ErrorHandler.processWarningMessage("Port " + port + " configured for project " + projectName + " is "
+                        + ((owner != null) ? "used by project " + owner : "in use by another process")
+                        + ". The Liberty server may fail to start.", false);
+            }
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, updatedParms);
+        }
+
+        return updatedParms.toString();
+    }
+
+    /**
+     * Returns the httpPort and httpsPort attribute values of the httpEndpoint elements in the input server.xml content.
+     *
+     * @param serverXml The server.xml content.
+     *
+     * @return The httpPort and httpsPort attribute values, which may be port numbers or variable references.
+     */
+    public static List<String> getHttpEndpointPorts(String serverXml) {
+        List<String> ports = new ArrayList<String>();
+        Matcher endpointMatcher = HTTP_ENDPOINT_PATTERN.matcher(COMMENT_PATTERN.matcher(serverXml).replaceAll(""));
+        while (endpointMatcher.find()) {
+            Map<String, String> attributes = getAttributes(endpointMatcher.group(1));
+            for (String name : new String[] { "httpPort", "httpsPort" }) {
+                String value = attributes.get(name);
+                if (value != null) {
+                    ports.add(value.trim());
+                }
+            }
+        }
+
+        return ports;
+    }
+
+    /**
+     * Returns whether or not the input port can be bound.
+     *
+     * @param port The port.
+     *
+     * @return True if the input port can be bound. False, otherwise.
+     */
+    public static boolean isAvailable(int port) {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.setReuseAddress(false);
+            socket.bind(new InetSocketAddress(port));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the value of the input argument in the input start parameters.
+     *
+     * @param startParms The start parameters.
+     * @param key The argument key.
+     *
+     * @return The value of the input argument, or null if it is not set.
+     */
+    private static String getParmValue(String startParms, String key) {
+        for (String part : startParms.split("\\s+")) {
+            if (part.startsWith(key + "=")) {
+                return part.substring(key.length() + 1);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the server variables that may hold ports. Values in bootstrap.properties take precedence over values in server.xml,
+     * which take precedence over the Liberty defaults.
+     *
+     * @param serverXml The server.xml content.
+     * @param bootstrapPath The path to bootstrap.properties.
+     *
+     * @return The server variables.
+     */
+    private static Map<String, String> getVariables(String serverXml, Path bootstrapPath) {
+        Map<String, String> variables = new HashMap<String, String>();
+        variables.put(HTTP_PORT_VARIABLE, DEFAULT_HTTP_PORT);
+        variables.put(HTTPS_PORT_VARIABLE, DEFAULT_HTTPS_PORT);
+
+        Matcher variableMatcher = VARIABLE_PATTERN.matcher(COMMENT_PATTERN.matcher(serverXml).replaceAll(""));
+        while (variableMatcher.find()) {
+            Map<String, String> attributes = getAttributes(variableMatcher.group(1));
+            String name = attributes.get("name");
+            String value = (attributes.get("value") != null) ? attributes.get("value") : attributes.get("defaultValue");
+            if (name != null && value != null) {
+                variables.put(name, value);
+            }
+        }
+
+        if (Files.isRegularFile(bootstrapPath)) {
+            Properties bootstrapProps = new Properties();
+            try (InputStream in = Files.newInputStream(bootstrapPath)) {
+                bootstrapProps.load(in);
+                for (String name : bootstrapProps.stringPropertyNames()) {
+                    variables.put(name, bootstrapProps.getProperty(name));
+                }
+            } catch (IOException e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to read " + bootstrapPath, e);
+                }
+            }
+        }
+
+        return variables;
+    }
+
+    /**
+     * Returns the attributes in the input element content.
+     *
+     * @param content The element content following the element name.
+     *
+     * @return The attributes, keyed by name.
+     */
+    private static Map<String, String> getAttributes(String content) {
+        Map<String, String> attributes = new LinkedHashMap<String, String>();
+        Matcher attributeMatcher = ATTRIBUTE_PATTERN.matcher(content);
+        while (attributeMatcher.find()) {
+            String value = (attributeMatcher.group(2) != null) ? attributeMatcher.group(2) : attributeMatcher.group(3);
+            attributes.put(attributeMatcher.group(1), value);
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Returns the port range set in the Liberty Tools preferences.
+     *
+     * @return The first and last ports of the range, or null if no valid range is set.
+     */
+    private static int[] getPreferredRange() {
+        LibertyDevPlugin plugin = LibertyDevPlugin.getDefault();
+        if (plugin == null) {
+            return null;
+        }
+
+        IPreferenceStore store = plugin.getPreferenceStore();
+        int start = store.getInt(LibertyToolsPreferencePage.PORT_RANGE_START);
+        int end = store.getInt(LibertyToolsPreferencePage.PORT_RANGE_END);
+        if (start <= 0 || end <= 0 || start > end) {
+            return null;
+        }
+
+        return new int[] { start, end };
+    }
+
+    /**
+     * Returns a port in the input range that is neither reserved nor in use. The search resumes after the port found last, so that
+     * recently released ports are not handed out again right away.
+     *
+     * @param start The first port of the range.
+     * @param end The last port of the range.
+     *
+     * @return A free port.
+     *
+     * @throws IOException If all the ports in the range are reserved or in use.
+     */
+    private int findFreePortInRange(int start, int end) throws IOException {
+        int size = end - start + 1;
+        int port = (nextRangePort < start || nextRangePort > end) ? start : nextRangePort;
+        for (int i = 0; i < size; i++) {
+            int candidate = port;
+            port = (port == end) ? start : port + 1;
+            if (!owners.containsKey(candidate) && isAvailable(candidate)) {
+                nextRangePort = port;
+                return candidate;
+            }
+        }
+
+        throw new IOException("All ports in the range " + start + "-" + end
+                + " set in the Liberty Tools preferences are reserved or in use.");
+    }
+
+    /**
+     * Returns an ephemeral port assigned by the operating system that is not reserved.
+     *
+     * @return A free port.
+     *
+     * @throws IOException If a free port could not be found.
+     */
+    private int findFreeEphemeralPort() throws IOException {
+        for (int i = 0; i < MAX_EPHEMERAL_ATTEMPTS; i++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                int port = socket.getLocalPort();
+                if (!owners.containsKey(port)) {
+                    return port;
+                }
+            }
+        }
+
+        throw new IOException("Unable to find a free port that is not reserved by another project.");
+    }
+}
@@ -0,0 +1,251 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.ui.launch.StartTab;
+
+/**
+ * Index of the Remote Java Application launch configurations created to debug Liberty projects.
+ *
+ * The index is built from the saved configurations the first time it is used, and it is kept up to date by a launch configuration
+ * listener. Only the configurations that are added or changed are read, so lookups do not parse the saved configurations, and only
+ * the configurations of the requested project are considered.
+ */
+public class RemoteJavaAppConfigIndex implements ILaunchConfigurationListener {
+
+    /** The instance of this class. */
+    private static RemoteJavaAppConfigIndex instance;
+
+    /** The indexed configurations. */
+    private final Map<ILaunchConfiguration, Entry> entries = new HashMap<ILaunchConfiguration, Entry>();
+
+    /** The indexed configurations, keyed by project name. */
+    private final Map<String, List<Entry>> entriesByProject = new HashMap<String, List<Entry>>();
+
+    /**
+     * Constructor.
+     */
+    private RemoteJavaAppConfigIndex() {
+    }
+
+    /**
+     * Returns an instance of this class. The index is built and its listener is registered the first time.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized RemoteJavaAppConfigIndex getInstance() {
+        if (instance == null) {
+            RemoteJavaAppConfigIndex index = new RemoteJavaAppConfigIndex();
+            ILaunchManager iLaunchManager = DebugPlugin.getDefault().getLaunchManager();
+            iLaunchManager.addLaunchConfigurationListener(index);
+            index.build(iLaunchManager);
+            instance = index;
+        }
+
+        return instance;
+    }
+
+    /**
+     * Unregisters the listener of the index, if it was created.
+     */
+    public static synchronized void dispose() {
+        if (instance != null) {
+            DebugPlugin debugPlugin = DebugPlugin.getDefault();
+            if (debugPlugin != null) {
+                debugPlugin.getLaunchManager().removeLaunchConfigurationListener(instance);
+            }
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the configuration to reuse when debugging the input project on the input port. A configuration that connects to the
+     * same port is preferred. Otherwise, the configuration that was run last is returned.
+     *
+     * @param projectName The project name.
+     * @param port The debug port.
+     *
+     * @return The configuration to reuse, or null if the project has no configuration.
+     */
+    public synchronized ILaunchConfiguration find(String projectName, String port) {
+        List<Entry> projectEntries = entriesByProject.get(projectName);
+        if (projectEntries == null) {
+            return null;
+        }
+
+        Entry lastRun = null;
+        Entry samePort = null;
+        for (Entry entry : projectEntries) {
+            if (lastRun == null || entry.runTime > lastRun.runTime) {
+                lastRun = entry;
+            }
+            if (port != null && port.equals(entry.port) && (samePort == null || entry.runTime > samePort.runTime)) {
+                samePort = entry;
+            }
+        }
+
+        Entry match = (samePort != null) ? samePort : lastRun;
+        return (match != null) ? match.configuration : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void launchConfigurationAdded(ILaunchConfiguration configuration) {
+        update(configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+        update(configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+        remove(configuration);
+    }
+
+    /**
+     * Indexes the saved Remote Java Application configurations.
+     *
+     * @param iLaunchManager The launch manager.
+     */
+    private synchronized void build(ILaunchManager iLaunchManager) {
+        try {
+            ILaunchConfigurationType remoteJavaAppConfigType = iLaunchManager
+                    .getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_REMOTE_JAVA_APPLICATION);
+            for (ILaunchConfiguration configuration : iLaunchManager.getLaunchConfigurations(remoteJavaAppConfigType)) {
+                index(configuration);
+            }
+        } catch (CoreException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to index the Remote Java Application configurations.", e);
+            }
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Indexed " + entries.size() + " Liberty Remote Java Application configurations.");
+        }
+    }
+
+    /**
+     * Re-indexes the input configuration if it is a saved Remote Java Application configuration.
+     *
+     * @param configuration The configuration that was added or changed.
+     */
+    private synchronized void update(ILaunchConfiguration configuration) {
+        if (configuration.isWorkingCopy()) {
+            return;
+        }
+
+        try {
+            if (!IJavaLaunchConfigurationConstants.ID_REMOTE_JAVA_APPLICATION.equals(configuration.getType().getIdentifier())) {
+                return;
+            }
+            remove(configuration);
+            index(configuration);
+        } catch (CoreException e) {
+            remove(configuration);
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to index configuration " + configuration.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Adds the input configuration to the index if it was created to debug a Liberty project.
+     *
+     * @param configuration The Remote Java Application configuration.
+     *
+     * @throws CoreException If the configuration attributes cannot be read.
+     */
+    private void index(ILaunchConfiguration configuration) throws CoreException {
+        String projectName = configuration.getAttribute(StartTab.PROJECT_NAME, (String) null);
+        if (projectName == null) {
+            return;
+        }
+
+        Map<String, String> connectMap = configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_CONNECT_MAP,
+                (Map<String, String>) null);
+        String port = (connectMap != null) ? connectMap.get("port") : null;
+
+        long runTime = 0;
+        try {
+            runTime = Long.parseLong(configuration.getAttribute(StartTab.PROJECT_RUN_TIME, "0"));
+        } catch (NumberFormatException e) {
+            // Treat it as never run.
+        }
+
+        Entry entry = new Entry(configuration, projectName, port, runTime);
+        entries.put(configuration, entry);
+        entriesByProject.computeIfAbsent(projectName, k -> new ArrayList<Entry>()).add(entry);
+    }
+
+    /**
+     * Removes the input configuration from the index.
+     *
+     * @param configuration The configuration to remove.
+     */
+    private void remove(ILaunchConfiguration configuration) {
+        Entry entry = entries.remove(configuration);
+        if (entry != null) {
+            List<Entry> projectEntries = entriesByProject.get(entry.projectName);
+            projectEntries.remove(entry);
+            if (projectEntries.isEmpty()) {
+                entriesByProject.remove(entry.projectName);
+            }
+        }
+    }
+
+    /**
+     * An indexed configuration.
+     */
+    private static class Entry {
+
+        final ILaunchConfiguration configuration;
+
+        final String projectName;
+
+        final String port;
+
+        final long runTime;
+
+        Entry(ILaunchConfiguration configuration, String projectName, String port, long runTime) {
+            this.configuration = configuration;
+            this.projectName = projectName;
+            this.port = port;
+            this.runTime = runTime;
+        }
+    }
+}
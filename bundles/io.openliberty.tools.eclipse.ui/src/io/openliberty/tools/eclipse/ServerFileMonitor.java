@@ -0,0 +1,385 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.ui.terminal.TerminalListener;
+
+/**
+ * Monitors the files of the Liberty servers run by dev mode.
+ *
+ * A single {@link WatchService} thread follows the Liberty servers directory (wlp/usr/servers) of each monitored project as the
+ * build tool creates it, and keeps the messages.log tailing offset up to date. The lines of messages.log, starting with its
+ * existing content, are passed to the registered {@link MessagesLogListener}s as they are appended, so the log is not polled.
+ */
+public class ServerFileMonitor {
+
+    /** The instance of this class. */
+    private static ServerFileMonitor instance;
+
+    /** The watch service. Null until the first project is monitored. */
+    private WatchService watchService;
+
+    /** The monitored projects' files, keyed by project name. */
+    private final Map<String, ServerFiles> monitored = new ConcurrentHashMap<String, ServerFiles>();
+
+    /** The monitored directories' watch keys, mapped to the files of the project they belong to. */
+    private final Map<WatchKey, ServerFiles> watchKeys = new ConcurrentHashMap<WatchKey, ServerFiles>();
+
+    /**
+     * Constructor.
+     */
+    private ServerFileMonitor() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized ServerFileMonitor getInstance() {
+        if (instance == null) {
+            instance = new ServerFileMonitor();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Starts monitoring the Liberty server files of the input project. Monitoring stops when the project's terminal tab is
+     * terminated.
+     *
+     * @param project The project running dev mode.
+     */
+    public void watch(Project project) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, project.getName());
+        }
+
+        String projectName = project.getName();
+        ServerFiles files;
+        try {
+            Path serversPath = DebugModeHandler.getLibertyServersPath(DebugModeHandler.getLibertyServerProject(project));
+            files = new ServerFiles(projectName, serversPath);
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to monitor the Liberty server files of project " + projectName, e);
+            }
+            return;
+        }
+
+        ServerFiles previous = monitored.put(projectName, files);
+        if (previous != null) {
+            previous.listeners.forEach(files.listeners::add);
+            unregister(previous);
+        }
+
+        synchronized (files) {
+            refresh(files);
+        }
+
+        DevModeOperations devModeOps = DevModeOperations.getInstance();
+        TerminalListener terminalListener = new TerminalListener() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void cleanup() {
+                unwatch(projectName, files);
+            }
+        };
+        devModeOps.registerTerminalListener(projectName, terminalListener);
+    }
+
+    /**
+     * Stops monitoring the Liberty server files of the input project.
+     *
+     * @param projectName The project name.
+     */
+    public void unwatch(String projectName) {
+        ServerFiles files = monitored.remove(projectName);
+        if (files != null) {
+            unregister(files);
+        }
+    }
+
+    /**
+     * Adds a listener that is called with the lines appended to the input project's messages.log. Listeners are called on the
+     * monitor thread.
+     *
+     * @param projectName The project name.
+     * @param listener The listener.
+     */
+    public void addMessagesLogListener(String projectName, MessagesLogListener listener) {
+        ServerFiles files = monitored.get(projectName);
+        if (files != null) {
+            files.listeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes the input listener.
+     *
+     * @param projectName The project name.
+     * @param listener The listener.
+     */
+    public void removeMessagesLogListener(String projectName, MessagesLogListener listener) {
+        ServerFiles files = monitored.get(projectName);
+        if (files != null) {
+            files.listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Stops monitoring the input files if they are still the ones monitored for the project.
+     *
+     * @param projectName The project name.
+     * @param files The files to stop monitoring.
+     */
+    private void unwatch(String projectName, ServerFiles files) {
+        if (monitored.remove(projectName, files)) {
+            unregister(files);
+        }
+    }
+
+    /**
+     * Cancels the watch keys of the input files.
+     *
+     * @param files The files to stop monitoring.
+     */
+    private void unregister(ServerFiles files) {
+        synchronized (files) {
+            for (WatchKey key : files.keys) {
+                key.cancel();
+                watchKeys.remove(key);
+            }
+            files.keys.clear();
+        }
+    }
+
+    /**
+     * Returns the watch service, starting the monitor thread the first time.
+     *
+     * @return The watch service.
+     *
+     * @throws IOException If the watch service cannot be created.
+     */
+    private synchronized WatchService getWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            Thread thread = new Thread(this::processEvents, "Liberty Tools Server File Monitor");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        return watchService;
+    }
+
+    /**
+     * Processes the watch events until the watch service is closed.
+     */
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            ServerFiles files = watchKeys.get(key);
+            if (files == null) {
+                key.cancel();
+                continue;
+            }
+
+            boolean logChanged = false;
+            boolean structureChanged = !key.isValid();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                Object context = event.context();
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    structureChanged = true;
+                } else if (context instanceof Path && ((Path) context).toString().equals(MessagesLogTailer.MESSAGES_LOG_FILE_NAME)) {
+                    logChanged = true;
+                } else {
+                    structureChanged = true;
+                }
+            }
+
+            if (!key.reset()) {
+                // The directory was deleted.
+                watchKeys.remove(key);
+                structureChanged = true;
+            }
+
+            try {
+                synchronized (files) {
+                    if (monitored.get(files.projectName) != files) {
+                        continue;
+                    }
+                    if (structureChanged) {
+                        refresh(files);
+                        logChanged = true;
+                    }
+                }
+                if (logChanged) {
+                    readMessagesLog(files);
+                }
+            } catch (Throwable t) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unexpected error while processing the Liberty server files of project "
+                            + files.projectName, t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the existing directories on the path to the input project's server logs directories. Must be called while holding
+     * the input object's lock.
+     *
+     * @param files The monitored files.
+     */
+    private void refresh(ServerFiles files) {
+        try {
+            WatchService service = getWatchService();
+            List<Path> dirs = new ArrayList<Path>();
+
+            // Until the build tool creates the servers directory, watch the deepest existing directory on the path to it. Directories
+            // may be created between the check and the registration, so check again after registering.
+            Path watched = null;
+            while (!Files.isDirectory(files.serversPath)) {
+                Path existing = files.serversPath;
+                while (existing != null && !Files.isDirectory(existing)) {
+                    existing = existing.getParent();
+                }
+                if (existing == null || existing.equals(watched)) {
+                    break;
+                }
+                register(service, existing, files);
+                watched = existing;
+            }
+            if (watched != null) {
+                dirs.add(watched);
+            }
+
+            if (Files.isDirectory(files.serversPath)) {
+                dirs.add(files.serversPath);
+                register(service, files.serversPath, files);
+                try (DirectoryStream<Path> servers = Files.newDirectoryStream(files.serversPath, Files::isDirectory)) {
+                    for (Path serverDir : servers) {
+                        dirs.add(serverDir);
+                        register(service, serverDir, files);
+                        Path logsDir = serverDir.resolve("logs");
+                        if (Files.isDirectory(logsDir)) {
+                            dirs.add(logsDir);
+                            register(service, logsDir, files);
+                        }
+                    }
+                }
+            }
+
+            // Stop watching the directories that are no longer on the path.
+            Iterator<WatchKey> keys = files.keys.iterator();
+            while (keys.hasNext()) {
+                WatchKey key = keys.next();
+                if (!key.isValid() || !dirs.contains(key.watchable())) {
+                    key.cancel();
+                    watchKeys.remove(key);
+                    keys.remove();
+                }
+            }
+
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Refreshed Liberty server files of project " + files.projectName
+                        + ". Watched directories: " + dirs);
+            }
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to refresh the Liberty server files of project " + files.projectName, e);
+            }
+        }
+    }
+
+    /**
+     * Registers the input directory with the watch service. Must be called while holding the input object's lock.
+     *
+     * @param service The watch service.
+     * @param dir The directory to watch.
+     * @param files The monitored files the directory belongs to.
+     *
+     * @throws IOException If the directory cannot be registered.
+     */
+    private void register(WatchService service, Path dir, ServerFiles files) throws IOException {
+        WatchKey key = dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        if (watchKeys.put(key, files) == null) {
+            files.keys.add(key);
+        }
+    }
+
+    /**
+     * Reads the lines appended to the input project's messages.log and passes them to the registered listeners.
+     *
+     * @param files The monitored files.
+     */
+    private void readMessagesLog(ServerFiles files) {
+        // Large backlogs are read in bounded chunks.
+        String lines;
+        while (!(lines = files.messagesLog.readNew()).isEmpty()) {
+            long offset = files.messagesLog.getLastReadOffset();
+            for (MessagesLogListener listener : files.listeners) {
+                listener.linesAppended(files.projectName, lines, offset);
+            }
+        }
+    }
+
+    /**
+     * The monitored files of a single project.
+     */
+    private static class ServerFiles {
+
+        final String projectName;
+
+        final Path serversPath;
+
+        final MessagesLogTailer messagesLog;
+
+        final List<MessagesLogListener> listeners = new CopyOnWriteArrayList<MessagesLogListener>();
+
+        final List<WatchKey> keys = new ArrayList<WatchKey>();
+
+        ServerFiles(String projectName, Path serversPath) {
+            this.projectName = projectName;
+            this.serversPath = serversPath;
+            this.messagesLog = new MessagesLogTailer(serversPath, false);
+        }
+    }
+}
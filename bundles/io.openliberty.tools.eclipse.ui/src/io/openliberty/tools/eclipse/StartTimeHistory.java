@@ -0,0 +1,413 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.openliberty.tools.eclipse.StartTimeRecord.Milestone;
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.utils.ErrorHandler;
+
+/**
+ * Persisted history of dev mode start timelines.
+ *
+ * Each start is appended as a single line to a file under the plugin's state location. Statistics are computed per project and
+ * launch configuration, and a warning is issued when a start is slower than the rolling median of the previous starts by more than
+ * {@link #REGRESSION_THRESHOLD_PERCENT} percent.
+ */
+public class StartTimeHistory {
+
+    /** History file name. */
+    public static final String HISTORY_FILE_NAME = "start-time-history.txt";
+
+    /** Number of previous starts used to compute the rolling median. */
+    public static final int ROLLING_WINDOW_SIZE = 10;
+
+    /** Minimum number of previous starts needed before regressions are reported. */
+    public static final int MIN_SAMPLES = 3;
+
+    /** Percentage over the rolling median above which a start is considered a regression. */
+    public static final int REGRESSION_THRESHOLD_PERCENT = 25;
+
+    /** The instance of this class. */
+    private static StartTimeHistory instance;
+
+    /** The records read from the history file, followed by the records added since. Null until loaded. */
+    private List<StartTimeRecord> records;
+
+    /** Listeners called when the history changes. */
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<Runnable>();
+
+    /**
+     * Constructor.
+     */
+    private StartTimeHistory() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized StartTimeHistory getInstance() {
+        if (instance == null) {
+            instance = new StartTimeHistory();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Appends the input record to the history. A warning is issued if the start regressed.
+     *
+     * @param record The record to append.
+     */
+    public void add(StartTimeRecord record) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, record);
+        }
+
+        List<Long> previousReadyTimes;
+        synchronized (this) {
+            previousReadyTimes = getReadyTimes(getRecords(record.getKey()));
+            load().add(record);
+
+            try {
+                Files.write(getHistoryFile().toPath(), (record.toLine() + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                String msg = "Unable to save the start time history of project " + record.getProjectName();
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, msg, e);
+                }
+                ErrorHandler.processWarningMessage(msg, e, false);
+            }
+        }
+
+        long readyTime = record.getReadyTime();
+        if (isRegression(readyTime, previousReadyTimes)) {
+            long median = getRollingMedian(previousReadyTimes);
+            String msg = "The start of project " + record.getProjectName() + " using configuration " + record.getConfigName()
+                    + " took " + readyTime + " ms, which is more than " + REGRESSION_THRESHOLD_PERCENT
+                    + "% slower than the median of the previous starts (" + median + " ms).";
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, msg);
+            }
+            ErrorHandler.processWarningMessage(msg, false);
+        }
+
+        notifyListeners();
+    }
+
+    /**
+     * Returns the records associated with the input key, in the order in which they were added.
+     *
+     * @param key The key identifying the project and launch configuration combination.
+     *
+     * @return The records associated with the input key, in the order in which they were added.
+     */
+    public synchronized List<StartTimeRecord> getRecords(String key) {
+        List<StartTimeRecord> matches = new ArrayList<StartTimeRecord>();
+        for (StartTimeRecord record : load()) {
+            if (record.getKey().equals(key)) {
+                matches.add(record);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Returns the summary of the history for each project and launch configuration combination.
+     *
+     * @return The summary of the history for each project and launch configuration combination.
+     */
+    public synchronized List<Summary> getSummaries() {
+        Map<String, List<StartTimeRecord>> byKey = new LinkedHashMap<String, List<StartTimeRecord>>();
+        for (StartTimeRecord record : load()) {
+            byKey.computeIfAbsent(record.getKey(), k -> new ArrayList<StartTimeRecord>()).add(record);
+        }
+
+        List<Summary> summaries = new ArrayList<Summary>();
+        for (List<StartTimeRecord> keyRecords : byKey.values()) {
+            summaries.add(new Summary(keyRecords));
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Removes all records.
+     */
+    public void clear() {
+        synchronized (this) {
+            records = new ArrayList<StartTimeRecord>();
+            File historyFile = getHistoryFile();
+            if (historyFile.exists() && !historyFile.delete()) {
+                ErrorHandler.processWarningMessage("Unable to delete the start time history file " + historyFile, false);
+            }
+        }
+
+        notifyListeners();
+    }
+
+    /**
+     * Adds a listener that is called when the history changes. Listeners may be called on any thread.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes the input listener.
+     *
+     * @param listener The listener.
+     */
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Calls all registered listeners.
+     */
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Returns the records, reading them from the history file the first time.
+     *
+     * @return The records.
+     */
+    private List<StartTimeRecord> load() {
+        if (records == null) {
+            records = new ArrayList<StartTimeRecord>();
+            File historyFile = getHistoryFile();
+            if (historyFile.exists()) {
+                try {
+                    for (String line : Files.readAllLines(historyFile.toPath(), StandardCharsets.UTF_8)) {
+                        StartTimeRecord record = StartTimeRecord.fromLine(line);
+                        if (record != null) {
+                            records.add(record);
+                        }
+                    }
+                } catch (IOException e) {
+                    String msg = "Unable to read the start time history file " + historyFile;
+                    if (Trace.isEnabled()) {
+                        Trace.getTracer().trace(Trace.TRACE_TOOLS, msg, e);
+                    }
+                    ErrorHandler.processWarningMessage(msg, e, false);
+                }
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Returns the history file.
+     *
+     * @return The history file.
+     */
+    private File getHistoryFile() {
+        return LibertyDevPlugin.getDefault().getStateLocation().append(HISTORY_FILE_NAME).toFile();
+    }
+
+    /**
+     * Returns the ready times of the input records. Records without a ready time are skipped.
+     *
+     * @param records The records.
+     *
+     * @return The ready times of the input records.
+     */
+    public static List<Long> getReadyTimes(List<StartTimeRecord> records) {
+        List<Long> values = new ArrayList<Long>();
+        for (StartTimeRecord record : records) {
+            if (record.getReadyTime() != StartTimeRecord.NOT_RECORDED) {
+                values.add(record.getReadyTime());
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the value at the input percentile using the nearest-rank method.
+     *
+     * @param values The values. They do not need to be sorted.
+     * @param percentile The percentile, from 0 to 100.
+     *
+     * @return The value at the input percentile, or {@link StartTimeRecord#NOT_RECORDED} if there are no values.
+     */
+    public static long getPercentile(List<Long> values, double percentile) {
+        if (values.isEmpty()) {
+            return StartTimeRecord.NOT_RECORDED;
+        }
+
+        List<Long> sorted = new ArrayList<Long>(values);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+
+    /**
+     * Returns the median of the last {@link #ROLLING_WINDOW_SIZE} values.
+     *
+     * @param values The values, oldest first.
+     *
+     * @return The median of the last {@link #ROLLING_WINDOW_SIZE} values, or {@link StartTimeRecord#NOT_RECORDED} if there are no
+     *         values.
+     */
+    public static long getRollingMedian(List<Long> values) {
+        List<Long> window = values.subList(Math.max(0, values.size() - ROLLING_WINDOW_SIZE), values.size());
+        return getPercentile(window, 50);
+    }
+
+    /**
+     * Returns true if the input value is more than {@link #REGRESSION_THRESHOLD_PERCENT} percent over the rolling median of the
+     * previous values. At least {@link #MIN_SAMPLES} previous values are needed.
+     *
+     * @param value The value to check.
+     * @param previousValues The previous values, oldest first.
+     *
+     * @return True if the input value is a regression. False, otherwise.
+     */
+    public static boolean isRegression(long value, List<Long> previousValues) {
+        if (value == StartTimeRecord.NOT_RECORDED || previousValues.size() < MIN_SAMPLES) {
+            return false;
+        }
+
+        long median = getRollingMedian(previousValues);
+
+        return value * 100 > median * (100 + REGRESSION_THRESHOLD_PERCENT);
+    }
+
+    /**
+     * Statistics of the starts of a single project and launch configuration combination.
+     */
+    public static class Summary {
+
+        private final String projectName;
+
+        private final String configName;
+
+        private final int count;
+
+        private final long[] medians;
+
+        private final long readyP90;
+
+        private final long readyP95;
+
+        private final long lastReadyTime;
+
+        private final long rollingMedian;
+
+        private final boolean lastRegressed;
+
+        /**
+         * Constructor.
+         *
+         * @param records The records of a single project and launch configuration combination, oldest first. There must be at least
+         *        one.
+         */
+        public Summary(List<StartTimeRecord> records) {
+            StartTimeRecord last = records.get(records.size() - 1);
+            projectName = last.getProjectName();
+            configName = last.getConfigName();
+            count = records.size();
+
+            Milestone[] milestones = Milestone.values();
+            medians = new long[milestones.length];
+            for (Milestone milestone : milestones) {
+                List<Long> values = new ArrayList<Long>();
+                for (StartTimeRecord record : records) {
+                    if (record.isRecorded(milestone)) {
+                        values.add(record.getElapsed(milestone));
+                    }
+                }
+                medians[milestone.ordinal()] = getPercentile(values, 50);
+            }
+
+            List<Long> readyTimes = getReadyTimes(records);
+            readyP90 = getPercentile(readyTimes, 90);
+            readyP95 = getPercentile(readyTimes, 95);
+            lastReadyTime = last.getReadyTime();
+
+            List<Long> previousReadyTimes = getReadyTimes(records.subList(0, records.size() - 1));
+            rollingMedian = getRollingMedian(previousReadyTimes);
+            lastRegressed = isRegression(lastReadyTime, previousReadyTimes);
+        }
+
+        public String getProjectName() {
+            return projectName;
+        }
+
+        public String getConfigName() {
+            return configName;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getMedian(Milestone milestone) {
+            return medians[milestone.ordinal()];
+        }
+
+        public long getReadyP90() {
+            return readyP90;
+        }
+
+        public long getReadyP95() {
+            return readyP95;
+        }
+
+        public long getLastReadyTime() {
+            return lastReadyTime;
+        }
+
+        /**
+         * Returns the percentage by which the last start differed from the rolling median of the starts before it.
+         *
+         * @return The percentage by which the last start differed from the rolling median of the starts before it, or null if there
+         *         is not enough data.
+         */
+        public Long getTrendPercent() {
+            if (lastReadyTime == StartTimeRecord.NOT_RECORDED || rollingMedian == StartTimeRecord.NOT_RECORDED || rollingMedian == 0) {
+                return null;
+            }
+
+            return Long.valueOf(Math.round((lastReadyTime - rollingMedian) * 100.0 / rollingMedian));
+        }
+
+        public boolean isLastRegressed() {
+            return lastRegressed;
+        }
+    }
+}
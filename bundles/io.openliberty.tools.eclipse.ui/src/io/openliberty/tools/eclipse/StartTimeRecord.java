@@ -0,0 +1,200 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.util.Arrays;
+
+/**
+ * The timeline of a single dev mode start. Milestones are recorded as the number of milliseconds elapsed since the start request.
+ * Milestones that were not observed have a value of {@link #NOT_RECORDED}.
+ */
+public class StartTimeRecord {
+
+    /** Value of a milestone that was not observed. */
+    public static final long NOT_RECORDED = -1;
+
+    /** Field separator used in the persisted form. */
+    private static final String SEPARATOR = "\t";
+
+    /** Start milestones. */
+    public static enum Milestone {
+        BUILD_JVM_STARTED("Build JVM"), FIRST_COMPILE_DONE("First Compile"), SERVER_READY("Server Ready"), APP_READY("App Ready");
+
+        private final String label;
+
+        private Milestone(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the label used to display this milestone.
+         *
+         * @return The label used to display this milestone.
+         */
+        public String getLabel() {
+            return label;
+        }
+    };
+
+    /** The name of the project that was started. */
+    private final String projectName;
+
+    /** The name of the launch configuration used to start the project. */
+    private final String configName;
+
+    /** The time at which the start was requested, in milliseconds since the epoch. */
+    private final long startRequestTime;
+
+    /** Elapsed times for each milestone, indexed by milestone ordinal. */
+    private final long[] elapsed;
+
+    /**
+     * Constructor.
+     *
+     * @param projectName The name of the project that was started.
+     * @param configName The name of the launch configuration used to start the project.
+     * @param startRequestTime The time at which the start was requested, in milliseconds since the epoch.
+     */
+    public StartTimeRecord(String projectName, String configName, long startRequestTime) {
+        this.projectName = sanitize(projectName);
+        this.configName = sanitize(configName);
+        this.startRequestTime = startRequestTime;
+        this.elapsed = new long[Milestone.values().length];
+        Arrays.fill(elapsed, NOT_RECORDED);
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    public long getStartRequestTime() {
+        return startRequestTime;
+    }
+
+    /**
+     * Returns the number of milliseconds between the start request and the input milestone.
+     *
+     * @param milestone The milestone.
+     *
+     * @return The number of milliseconds between the start request and the input milestone, or {@link #NOT_RECORDED}.
+     */
+    public long getElapsed(Milestone milestone) {
+        return elapsed[milestone.ordinal()];
+    }
+
+    /**
+     * Returns true if the input milestone was recorded. False, otherwise.
+     *
+     * @param milestone The milestone.
+     *
+     * @return True if the input milestone was recorded. False, otherwise.
+     */
+    public boolean isRecorded(Milestone milestone) {
+        return elapsed[milestone.ordinal()] != NOT_RECORDED;
+    }
+
+    /**
+     * Records the input milestone at the specified time. Milestones that are already recorded are not updated.
+     *
+     * @param milestone The milestone.
+     * @param time The time at which the milestone was reached, in milliseconds since the epoch.
+     */
+    public void record(Milestone milestone, long time) {
+        if (!isRecorded(milestone)) {
+            elapsed[milestone.ordinal()] = Math.max(0, time - startRequestTime);
+        }
+    }
+
+    /**
+     * Returns the number of milliseconds it took for the start to be ready. That is the app ready milestone if it was recorded, or
+     * the server ready milestone otherwise.
+     *
+     * @return The number of milliseconds it took for the start to be ready, or {@link #NOT_RECORDED}.
+     */
+    public long getReadyTime() {
+        return isRecorded(Milestone.APP_READY) ? getElapsed(Milestone.APP_READY) : getElapsed(Milestone.SERVER_READY);
+    }
+
+    /**
+     * Returns the key identifying the project and launch configuration combination of this record.
+     *
+     * @return The key identifying the project and launch configuration combination of this record.
+     */
+    public String getKey() {
+        return projectName + SEPARATOR + configName;
+    }
+
+    /**
+     * Returns the single line persisted form of this record.
+     *
+     * @return The single line persisted form of this record.
+     */
+    public String toLine() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(startRequestTime);
+        for (long value : elapsed) {
+            sb.append(SEPARATOR).append(value);
+        }
+        sb.append(SEPARATOR).append(projectName).append(SEPARATOR).append(configName);
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns the record represented by the input line.
+     *
+     * @param line A line created by {@link #toLine()}.
+     *
+     * @return The record represented by the input line, or null if the line is not valid.
+     */
+    public static StartTimeRecord fromLine(String line) {
+        int milestoneCount = Milestone.values().length;
+        String[] parts = line.split(SEPARATOR, -1);
+        if (parts.length != milestoneCount + 3) {
+            return null;
+        }
+
+        try {
+            StartTimeRecord record = new StartTimeRecord(parts[milestoneCount + 1], parts[milestoneCount + 2], Long.parseLong(parts[0]));
+            for (int i = 0; i < milestoneCount; i++) {
+                record.elapsed[i] = Long.parseLong(parts[i + 1]);
+            }
+            return record;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Removes the characters used as separators in the persisted form.
+     *
+     * @param value The value to sanitize.
+     *
+     * @return The sanitized value.
+     */
+    private static String sanitize(String value) {
+        return (value == null) ? "" : value.replaceAll("[\\t\\r\\n]", " ");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "StartTimeRecord: " + toLine();
+    }
+}
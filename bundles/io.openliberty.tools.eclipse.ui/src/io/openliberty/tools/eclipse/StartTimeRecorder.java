@@ -0,0 +1,235 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+
+import io.openliberty.tools.eclipse.StartTimeRecord.Milestone;
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.ui.terminal.ProjectTab;
+import io.openliberty.tools.eclipse.ui.terminal.ProjectTabController;
+import io.openliberty.tools.eclipse.ui.terminal.TerminalListener;
+
+/**
+ * Records the timeline of a dev mode start and adds it to the {@link StartTimeHistory}.
+ *
+ * The milestones are observed as follows:
+ * <ul>
+ * <li>Build JVM started: the start time of the first Java process started by the terminal running dev mode.</li>
+ * <li>First compile done: the update time of the compiler plugin's incremental build data, if the compiler ran.</li>
+ * <li>Server ready: the time CWWKF0011I is written to messages.log.</li>
+ * <li>App ready: the time CWWKZ0001I is written to messages.log.</li>
+ * </ul>
+ * The timeline is only saved if the server became ready.
+ */
+public class StartTimeRecorder extends Job {
+
+    /** Liberty server ready message ID. */
+    public static final String SERVER_READY_MSG_ID = "CWWKF0011I";
+
+    /** Liberty application started message ID. */
+    public static final String APP_READY_MSG_ID = "CWWKZ0001I";
+
+    /** Maximum number of minutes to wait for the server to become ready. */
+    private static final int START_TIMEOUT_MINS = 15;
+
+    /** Maximum number of seconds to wait for the application to become ready after the server is ready. */
+    private static final int APP_READY_TIMEOUT_SECS = 60;
+
+    /** Interval at which the milestones are checked. */
+    private static final long POLL_INTERVAL_MILLIS = 250;
+
+    /** The project being started. */
+    private Project project;
+
+    /** The timeline being recorded. */
+    private StartTimeRecord record;
+
+    /**
+     * Constructor.
+     *
+     * @param project The project being started.
+     * @param record The timeline to record.
+     */
+    private StartTimeRecorder(Project project, StartTimeRecord record) {
+        super("Recording the start time of project " + project.getName() + "...");
+        this.project = project;
+        this.record = record;
+        setSystem(true);
+    }
+
+    /**
+     * Starts recording the timeline of a dev mode start. Recording stops if the terminal running dev mode is closed.
+     *
+     * @param project The project being started.
+     * @param configName The name of the launch configuration used to start the project.
+     * @param startRequestTime The time at which the start was requested, in milliseconds since the epoch.
+     */
+    public static void startRecording(Project project, String configName, long startRequestTime) {
+        String projectName = project.getName();
+        StartTimeRecorder recorder = new StartTimeRecorder(project, new StartTimeRecord(projectName, configName, startRequestTime));
+
+        // Stop recording if the terminal or terminal tab is terminated while the server is starting.
+        DevModeOperations devModeOps = DevModeOperations.getInstance();
+        TerminalListener terminalListener = new TerminalListener() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void cleanup() {
+                recorder.cancel();
+            }
+        };
+        devModeOps.registerTerminalListener(projectName, terminalListener);
+
+        recorder.addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(IJobChangeEvent event) {
+                devModeOps.unregisterTerminalListener(projectName, terminalListener);
+            }
+        });
+
+        recorder.schedule();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, record);
+        }
+
+        Path serversPath = null;
+        Path[] compileMarkers = new Path[0];
+        try {
+            Project serverProject = DebugModeHandler.getLibertyServerProject(project);
+            serversPath = DebugModeHandler.getLibertyServersPath(serverProject);
+            compileMarkers = getCompileMarkers(serverProject);
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to find the Liberty server directory of project " + project.getName(), e);
+            }
+            return Status.CANCEL_STATUS;
+        }
+
+        // The server rolls over messages.log when it starts. Only consider messages written after the start request.
+        MessagesLogTailer messagesLog = new MessagesLogTailer(serversPath, true);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(START_TIMEOUT_MINS);
+        long serverReadyNanos = 0;
+
+        try {
+            while (!monitor.isCanceled()) {
+                if (!record.isRecorded(Milestone.BUILD_JVM_STARTED)) {
+                    recordBuildJvmStart();
+                }
+
+                if (!record.isRecorded(Milestone.FIRST_COMPILE_DONE)) {
+                    for (Path compileMarker : compileMarkers) {
+                        File markerFile = compileMarker.toFile();
+                        if (markerFile.lastModified() > record.getStartRequestTime()) {
+                            record.record(Milestone.FIRST_COMPILE_DONE, markerFile.lastModified());
+                            break;
+                        }
+                    }
+                }
+
+                String newMessages = messagesLog.readNew();
+                long now = System.currentTimeMillis();
+                if (!record.isRecorded(Milestone.SERVER_READY) && newMessages.contains(SERVER_READY_MSG_ID)) {
+                    record.record(Milestone.SERVER_READY, now);
+                    serverReadyNanos = System.nanoTime();
+                }
+                if (!record.isRecorded(Milestone.APP_READY) && newMessages.contains(APP_READY_MSG_ID)) {
+                    record.record(Milestone.APP_READY, now);
+                }
+
+                if (record.isRecorded(Milestone.SERVER_READY)) {
+                    if (record.isRecorded(Milestone.APP_READY)
+                            || System.nanoTime() - serverReadyNanos > TimeUnit.SECONDS.toNanos(APP_READY_TIMEOUT_SECS)) {
+                        break;
+                    }
+                } else if (System.nanoTime() > deadline) {
+                    break;
+                }
+
+                TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Status.CANCEL_STATUS;
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, record);
+        }
+
+        if (monitor.isCanceled() || !record.isRecorded(Milestone.SERVER_READY)) {
+            return Status.CANCEL_STATUS;
+        }
+
+        StartTimeHistory.getInstance().add(record);
+
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Records the start time of the first Java process started by the terminal running dev mode.
+     */
+    private void recordBuildJvmStart() {
+        ProjectTab projectTab = ProjectTabController.getInstance().getProjectTab(project.getName());
+        ProcessHandle terminalProcess = (projectTab != null) ? projectTab.getProcess() : null;
+        if (terminalProcess == null) {
+            return;
+        }
+
+        Optional<Instant> buildJvmStart = terminalProcess.descendants().filter(ph -> ph.info().command().map(cmd -> {
+            String name = Paths.get(cmd).getFileName().toString();
+            return name.equals("java") || name.equals("java.exe");
+        }).orElse(false)).map(ph -> ph.info().startInstant()).filter(Optional::isPresent).map(Optional::get).min(Instant::compareTo);
+
+        if (buildJvmStart.isPresent()) {
+            record.record(Milestone.BUILD_JVM_STARTED, buildJvmStart.get().toEpochMilli());
+        }
+    }
+
+    /**
+     * Returns the files the build tool updates when the Java compiler runs.
+     *
+     * @param serverProject The project containing the Liberty server configuration.
+     *
+     * @return The files the build tool updates when the Java compiler runs.
+     */
+    private Path[] getCompileMarkers(Project serverProject) {
+        String projectPath = serverProject.getPath();
+        if (serverProject.getBuildType() == Project.BuildType.MAVEN) {
+            Path statusPath = Paths.get(projectPath, "target", "maven-status", "maven-compiler-plugin", "compile", "default-compile");
+            return new Path[] { statusPath.resolve("inputFiles.lst"), statusPath.resolve("createdFiles.lst") };
+        } else {
+            return new Path[] { Paths.get(projectPath, "build", "tmp", "compileJava", "previous-compilation-data.bin") };
+        }
+    }
+}
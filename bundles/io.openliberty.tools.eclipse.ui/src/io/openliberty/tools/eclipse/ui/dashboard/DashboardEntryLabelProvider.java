@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022 IBM Corporation and others.
+* Copyright (c) 2022, 2023 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -19,6 +19,8 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 
 import io.openliberty.tools.eclipse.DevModeOperations;
+import io.openliberty.tools.eclipse.MessagesLogIndex;
+import io.openliberty.tools.eclipse.MessagesLogIndex.Severity;
 import io.openliberty.tools.eclipse.Project;
 import io.openliberty.tools.eclipse.utils.Utils;
 
@@ -59,11 +61,11 @@ public class DashboardEntryLabelProvider extends LabelProvider implements ITable
      */
     @Override
     public Image getColumnImage(Object element, int columnIndex) {
-        // Currently, the table under which the dashboard content is organized consists of a single
-        // column and a single row. The content is the string containing the name of the project.
+        // The table under which the dashboard content is organized consists of a project column and a server log column.
+        // Each row's content is the string containing the name of the project.
         String projectName = null;
         Image img = null;
-        if (element != null && element instanceof String) {
+        if (columnIndex == DashboardView.PROJECT_COLUMN_INDEX && element != null && element instanceof String) {
             projectName = (String) element;
             Project project = devModeOps.getProjectModel().getProject(projectName);
 
@@ -84,17 +86,39 @@ public class DashboardEntryLabelProvider extends LabelProvider implements ITable
      */
     @Override
     public String getColumnText(Object element, int columnIndex) {
-        // Currently the table consists of a single column and a single row, and the
-        // content is a string containing the name of the project.
-        // Therefore, the columnIndex is not used.
+        // The content is a string containing the name of the project. The server log column shows the number of errors and
+        // warnings written to the project's server messages.log.
         String columnText = null;
         if (element != null && element instanceof String) {
-            columnText = element.toString();
+            if (columnIndex == DashboardView.LOG_COLUMN_INDEX) {
+                columnText = getLogSummary(element.toString());
+            } else {
+                columnText = element.toString();
+            }
         }
 
         return columnText;
     }
 
+    /**
+     * Returns the summary of the errors and warnings written to the input project's server messages.log.
+     * 
+     * @param projectName The project name.
+     * 
+     * @return The summary of the errors and warnings written to the input project's server messages.log. An empty string if there
+     *         are none.
+     */
+    private String getLogSummary(String projectName) {
+        MessagesLogIndex index = MessagesLogIndex.getInstance();
+        int errors = index.getCount(projectName, Severity.ERROR);
+        int warnings = index.getCount(projectName, Severity.WARNING);
+        if (errors == 0 && warnings == 0) {
+            return "";
+        }
+
+        return errors + (errors == 1 ? " error, " : " errors, ") + warnings + (warnings == 1 ? " warning" : " warnings");
+    }
+
     @Override
     public void dispose() {
         if (gradleImg != null) {
@@ -13,6 +13,7 @@
 package io.openliberty.tools.eclipse.ui.dashboard;
 
 import java.net.URL;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.core.resources.IProject;
@@ -25,16 +26,24 @@ import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.commands.ActionHandler;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.ControlAdapter;
+import org.eclipse.swt.events.ControlEvent;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.ui.contexts.IContextService;
+import org.eclipse.ui.dialogs.ListDialog;
 import org.eclipse.ui.handlers.IHandlerService;
 import org.eclipse.ui.part.ViewPart;
 
 import io.openliberty.tools.eclipse.DevModeOperations;
+import io.openliberty.tools.eclipse.MessagesLogIndex;
+import io.openliberty.tools.eclipse.MessagesLogIndex.Entry;
 import io.openliberty.tools.eclipse.Project;
 import io.openliberty.tools.eclipse.WorkspaceProjectsModel;
 import io.openliberty.tools.eclipse.logging.Trace;
@@ -80,8 +89,16 @@ public class DashboardView extends ViewPart {
     public static final String APP_MENU_ACTION_VIEW_MVN_IT_REPORT = "View integration test report";
     public static final String APP_MENU_ACTION_VIEW_MVN_UT_REPORT = "View unit test report";
     public static final String APP_MENU_ACTION_VIEW_GRADLE_TEST_REPORT = "View test report";
+    public static final String APP_MENU_ACTION_VIEW_LOG_PROBLEMS = "View server log problems";
     public static final String DASHBORD_TOOLBAR_ACTION_REFRESH = "refresh";
 
+    /**
+     * Table column constants.
+     */
+    public static final int PROJECT_COLUMN_INDEX = 0;
+    public static final int LOG_COLUMN_INDEX = 1;
+    private static final int LOG_COLUMN_WIDTH = 160;
+
     /**
      * view actions.
      */
@@ -96,8 +113,14 @@ public class DashboardView extends ViewPart {
     private Action viewMavenITestReportsAction;
     private Action viewMavenUTestReportsAction;
     private Action viewGradleTestReportsAction;
+    private Action viewLogProblemsAction;
     private Action refreshAction;
 
+    /**
+     * Listener that refreshes the server log column.
+     */
+    private Runnable logIndexListener;
+
     /**
      * Table viewer that holds the entries in the dashboard.
      */
@@ -125,6 +148,27 @@ public class DashboardView extends ViewPart {
         viewer.setContentProvider(ArrayContentProvider.getInstance());
         viewer.setLabelProvider(new DashboardEntryLabelProvider(devModeOps));
 
+        // The project column fills the space not used by the server log column.
+        Table table = viewer.getTable();
+        TableColumn projectColumn = new TableColumn(table, SWT.LEFT);
+        TableColumn logColumn = new TableColumn(table, SWT.LEFT);
+        logColumn.setWidth(LOG_COLUMN_WIDTH);
+        table.addControlListener(new ControlAdapter() {
+            @Override
+            public void controlResized(ControlEvent e) {
+                projectColumn.setWidth(Math.max(LOG_COLUMN_WIDTH, table.getClientArea().width - logColumn.getWidth()));
+            }
+        });
+
+        // Refresh the server log column when the number of errors or warnings changes.
+        Display display = table.getDisplay();
+        logIndexListener = () -> display.asyncExec(() -> {
+            if (viewer != null && !viewer.getControl().isDisposed()) {
+                viewer.refresh(true);
+            }
+        });
+        MessagesLogIndex.getInstance().addListener(logIndexListener);
+
         devModeOps.refreshDashboardView(true);
 
         createActions();
@@ -146,6 +190,7 @@ public class DashboardView extends ViewPart {
      */
     @Override
     public void dispose() {
+        MessagesLogIndex.getInstance().removeListener(logIndexListener);
         super.dispose();
         // null out viewer so we don't try to update upon a resource change listener notification
         viewer = null;
@@ -212,6 +257,10 @@ public class DashboardView extends ViewPart {
                 ErrorHandler.processErrorMessage(msg, true);
                 return;
             }
+
+            if (!MessagesLogIndex.getInstance().getEntries(projectName).isEmpty()) {
+                mgr.add(viewLogProblemsAction);
+            }
         }
     }
 
@@ -479,6 +528,18 @@ public class DashboardView extends ViewPart {
         ActionHandler gradleTestReportsHandler = new ActionHandler(viewGradleTestReportsAction);
         handlerService.activateHandler(viewGradleTestReportsAction.getActionDefinitionId(), gradleTestReportsHandler);
 
+        // Menu: View the errors and warnings in the server's messages.log.
+        viewLogProblemsAction = new Action(APP_MENU_ACTION_VIEW_LOG_PROBLEMS) {
+            @Override
+            public void run() {
+                IProject iProject = Utils.getActiveProject();
+                if (iProject != null) {
+                    openLogProblemsDialog(iProject.getName());
+                }
+            }
+        };
+        viewLogProblemsAction.setImageDescriptor(ActionImg);
+
         // Toolbar: Refresh the project list.
         refreshAction = new Action(DASHBORD_TOOLBAR_ACTION_REFRESH) {
             @Override
@@ -489,6 +550,26 @@ public class DashboardView extends ViewPart {
         refreshAction.setImageDescriptor(refreshImg);
     }
 
+    /**
+     * Opens a dialog that lists the most recent errors and warnings written to the input project's server messages.log, with
+     * their line numbers.
+     * 
+     * @param projectName The project name.
+     */
+    private void openLogProblemsDialog(String projectName) {
+        List<Entry> entries = MessagesLogIndex.getInstance().getEntries(projectName);
+        Collections.reverse(entries);
+
+        ListDialog dialog = new ListDialog(getSite().getShell());
+        dialog.setTitle(ErrorHandler.TITLE);
+        dialog.setMessage("Most recent errors and warnings in the server messages.log of project " + projectName + ":");
+        dialog.setContentProvider(ArrayContentProvider.getInstance());
+        dialog.setLabelProvider(new LabelProvider());
+        dialog.setInput(entries);
+        dialog.setWidthInChars(120);
+        dialog.open();
+    }
+
     public void setInput(List<String> sortedDashboardProjectList) {
         if (viewer != null) {
             viewer.setInput(sortedDashboardProjectList);
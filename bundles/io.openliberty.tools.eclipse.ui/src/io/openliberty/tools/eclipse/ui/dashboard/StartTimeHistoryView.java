@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2023 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial implementation
+ *******************************************************************************/
+package io.openliberty.tools.eclipse.ui.dashboard;
+
+import java.net.URL;
+import java.util.function.Function;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.part.ViewPart;
+
+import io.openliberty.tools.eclipse.StartTimeHistory;
+import io.openliberty.tools.eclipse.StartTimeHistory.Summary;
+import io.openliberty.tools.eclipse.StartTimeRecord;
+import io.openliberty.tools.eclipse.StartTimeRecord.Milestone;
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.utils.ErrorHandler;
+
+/**
+ * View of the dev mode start time history. It shows, per project and launch configuration, the median time to reach each start
+ * milestone, the ready time percentiles, and the trend of the last start against the rolling median of the previous starts.
+ */
+public class StartTimeHistoryView extends ViewPart {
+
+    /** Start time history view ID. */
+    public static final String ID = "io.openliberty.tools.eclipse.views.liberty.devmode.starttime";
+
+    /** Table viewer that holds the history summaries. */
+    private TableViewer viewer;
+
+    /** History listener that refreshes this view. */
+    private Runnable historyListener;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void createPartControl(Composite parent) {
+        viewer = new TableViewer(parent, SWT.SINGLE | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+        viewer.setContentProvider(ArrayContentProvider.getInstance());
+
+        Table table = viewer.getTable();
+        table.setHeaderVisible(true);
+        table.setLinesVisible(true);
+
+        createColumn("Project", 160, s -> s.getProjectName());
+        createColumn("Configuration", 160, s -> s.getConfigName());
+        createColumn("Starts", 60, s -> String.valueOf(s.getCount()));
+        for (Milestone milestone : Milestone.values()) {
+            createColumn(milestone.getLabel() + " (median)", 120, s -> formatMillis(s.getMedian(milestone)));
+        }
+        createColumn("Ready (p90)", 90, s -> formatMillis(s.getReadyP90()));
+        createColumn("Ready (p95)", 90, s -> formatMillis(s.getReadyP95()));
+        createColumn("Ready (last)", 90, s -> formatMillis(s.getLastReadyTime()));
+        createColumn("Trend", 120, s -> {
+            Long trend = s.getTrendPercent();
+            if (trend == null) {
+                return "";
+            }
+            String text = (trend.longValue() > 0 ? "+" : "") + trend + "%";
+            return s.isLastRegressed() ? text + " (regression)" : text;
+        });
+
+        StartTimeHistory history = StartTimeHistory.getInstance();
+        historyListener = () -> {
+            Display display = viewer.getControl().getDisplay();
+            display.asyncExec(() -> refresh());
+        };
+        history.addListener(historyListener);
+
+        addToolbarActions();
+        refresh();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFocus() {
+        viewer.getControl().setFocus();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose() {
+        StartTimeHistory.getInstance().removeListener(historyListener);
+        super.dispose();
+        viewer = null;
+    }
+
+    /**
+     * Reloads the view content.
+     */
+    public void refresh() {
+        if (viewer == null || viewer.getControl().isDisposed()) {
+            return;
+        }
+
+        viewer.setInput(StartTimeHistory.getInstance().getSummaries());
+    }
+
+    /**
+     * Creates a table column.
+     *
+     * @param title The column title.
+     * @param width The column width.
+     * @param textProvider The function that returns the column text of a summary.
+     */
+    private void createColumn(String title, int width, Function<Summary, String> textProvider) {
+        TableViewerColumn column = new TableViewerColumn(viewer, SWT.NONE);
+        column.getColumn().setText(title);
+        column.getColumn().setWidth(width);
+        column.getColumn().setResizable(true);
+        column.setLabelProvider(new ColumnLabelProvider() {
+            @Override
+            public String getText(Object element) {
+                return textProvider.apply((Summary) element);
+            }
+
+            @Override
+            public Color getForeground(Object element) {
+                if (((Summary) element).isLastRegressed()) {
+                    return viewer.getControl().getDisplay().getSystemColor(SWT.COLOR_RED);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Populates the toolbar.
+     */
+    private void addToolbarActions() {
+        ImageDescriptor refreshImg = null;
+        ImageDescriptor clearImg = null;
+        try {
+            refreshImg = ImageDescriptor.createFromURL(new URL("platform:/plugin/org.eclipse.ui.browser/icons/clcl16/nav_refresh.png"));
+            clearImg = ImageDescriptor.createFromURL(new URL("platform:/plugin/org.eclipse.ui/icons/full/etool16/delete.png"));
+        } catch (Exception e) {
+            String msg = "An error was detected while retrieving image descriptions.";
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, msg, e);
+            }
+            ErrorHandler.processWarningMessage(msg, e, false);
+        }
+
+        Action refreshAction = new Action("Refresh") {
+            @Override
+            public void run() {
+                refresh();
+            }
+        };
+        refreshAction.setImageDescriptor(refreshImg);
+
+        Action clearAction = new Action("Clear history") {
+            @Override
+            public void run() {
+                if (MessageDialog.openConfirm(getSite().getShell(), ErrorHandler.TITLE,
+                        "Do you want to delete the start time history of all projects?")) {
+                    StartTimeHistory.getInstance().clear();
+                }
+            }
+        };
+        clearAction.setImageDescriptor(clearImg);
+
+        IToolBarManager tbMgr = getViewSite().getActionBars().getToolBarManager();
+        tbMgr.add(refreshAction);
+        tbMgr.add(clearAction);
+    }
+
+    /**
+     * Returns the input number of milliseconds formatted as seconds.
+     *
+     * @param millis The number of milliseconds.
+     *
+     * @return The input number of milliseconds formatted as seconds, or an empty string if the value was not recorded.
+     */
+    private static String formatMillis(long millis) {
+        if (millis == StartTimeRecord.NOT_RECORDED) {
+            return "";
+        }
+
+        return String.format("%.1f s", millis / 1000.0);
+    }
+}
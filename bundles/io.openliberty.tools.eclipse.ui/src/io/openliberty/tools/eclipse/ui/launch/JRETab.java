@@ -24,8 +24,6 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.ui.launchConfigurations.JavaJRETab;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
-import org.eclipse.jdt.launching.IVMInstall;
-import org.eclipse.jdt.launching.JavaRuntime;
 
 import io.openliberty.tools.eclipse.DevModeOperations;
 import io.openliberty.tools.eclipse.Project;
@@ -94,14 +92,12 @@ public class JRETab extends JavaJRETab {
      * Resolves the java installation to use based on the configuration.
      */
     public static String resolveJavaHome(ILaunchConfiguration configuration) {
-        IVMInstall install = null;
         String keyValue = null;
 
         // The JRE_CONTAINER_KEY is set when using the configuration's execution environment
         // or an alternate JRE. If this is not set, the workspace default JRE is used.
         try {
-            ILaunchConfigurationWorkingCopy configWorkingCopy = configuration.getWorkingCopy();
-            keyValue = configWorkingCopy.getAttribute(IJavaLaunchConfigurationConstants.ATTR_JRE_CONTAINER_PATH, (String) null);
+            keyValue = configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_JRE_CONTAINER_PATH, (String) null);
         } catch (Exception e) {
             String msg = "Unable to resolve the Java installation path by using configuration." + configuration.getName()
                     + ". Using the workspace Java installation";
@@ -111,14 +107,32 @@ public class JRETab extends JavaJRETab {
             ErrorHandler.processWarningMessage(msg, e);
         }
 
-        if (keyValue != null) {
-            IPath javaPath = org.eclipse.core.runtime.Path.fromOSString(keyValue);
-            install = JavaRuntime.getVMInstall(javaPath);
-        } else {
-            install = JavaRuntime.getDefaultVMInstall();
+        // The install location is resolved once per JRE, until the installed JREs change.
+        return JavaInstallCache.getInstance().getInstallLocation(keyValue);
+    }
+
+    /**
+     * Returns the Java execution environment configured in the Java build path of the input project (.classpath). The result is
+     * cached until the classpath of a Java project changes.
+     * 
+     * @param iProject The project currently being processed.
+     * 
+     * @return the Java execution environment configured in the Java build path of the input project (.classpath). Null if the
+     *         required data is not found.
+     * 
+     * @throws Exception
+     */
+    public static String getDefaultJavaFromBuildPath(IProject iProject) throws Exception {
+        JavaInstallCache cache = JavaInstallCache.getInstance();
+        String projectName = iProject.getName();
+        if (cache.hasContainerPath(projectName)) {
+            return cache.getContainerPath(projectName);
         }
 
-        return install.getInstallLocation().getAbsolutePath();
+        String containerPath = findDefaultJavaInBuildPath(iProject);
+        cache.putContainerPath(projectName, containerPath);
+
+        return containerPath;
     }
 
     /**
@@ -131,7 +145,7 @@ public class JRETab extends JavaJRETab {
      * 
      * @throws Exception
      */
-    public static String getDefaultJavaFromBuildPath(IProject iProject) throws Exception {
+    private static String findDefaultJavaInBuildPath(IProject iProject) throws Exception {
         // There are cases where some modules of a multi-module project may not be categorized as Java
         // projects. If the project being processed is not marked as a Java project, find an associated
         // Java project to be able to determine what JRE installation should be associated with the
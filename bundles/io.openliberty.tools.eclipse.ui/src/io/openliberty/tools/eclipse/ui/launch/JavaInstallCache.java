@@ -0,0 +1,233 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ui.launch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallChangedListener;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.PropertyChangeEvent;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Cache of the Java installations resolved for the Liberty projects and launch configurations.
+ *
+ * It holds the JRE container path found in the build path of each project, and the install location of each JRE container path.
+ * Because a project that is not a Java project uses the build path of an associated Java project, all the cached container paths
+ * are discarded when the classpath of any Java project changes. The install locations are discarded when the installed JREs change.
+ */
+public class JavaInstallCache implements IElementChangedListener, IVMInstallChangedListener {
+
+    /** Key of the install location of the workspace default JRE. */
+    private static final String DEFAULT_INSTALL_KEY = "";
+
+    /** The instance of this class. */
+    private static JavaInstallCache instance;
+
+    /** The JRE container paths of the projects, keyed by project name. A null value means that the project has no container path. */
+    private final Map<String, String> containerPaths = new HashMap<String, String>();
+
+    /** The install locations, keyed by JRE container path. */
+    private final Map<String, String> installLocations = new HashMap<String, String>();
+
+    /**
+     * Constructor.
+     */
+    private JavaInstallCache() {
+    }
+
+    /**
+     * Returns an instance of this class. Its listeners are registered the first time.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized JavaInstallCache getInstance() {
+        if (instance == null) {
+            instance = new JavaInstallCache();
+            JavaCore.addElementChangedListener(instance, ElementChangedEvent.POST_CHANGE);
+            JavaRuntime.addVMInstallChangedListener(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Unregisters the listeners of the cache, if it was created.
+     */
+    public static synchronized void dispose() {
+        if (instance != null) {
+            JavaCore.removeElementChangedListener(instance);
+            JavaRuntime.removeVMInstallChangedListener(instance);
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns whether or not the JRE container path of the input project is cached.
+     *
+     * @param projectName The project name.
+     *
+     * @return True if the JRE container path of the input project is cached. False, otherwise.
+     */
+    public synchronized boolean hasContainerPath(String projectName) {
+        return containerPaths.containsKey(projectName);
+    }
+
+    /**
+     * Returns the cached JRE container path of the input project.
+     *
+     * @param projectName The project name.
+     *
+     * @return The cached JRE container path of the input project, or null if the project has none or it is not cached.
+     */
+    public synchronized String getContainerPath(String projectName) {
+        return containerPaths.get(projectName);
+    }
+
+    /**
+     * Caches the JRE container path of the input project.
+     *
+     * @param projectName The project name.
+     * @param containerPath The JRE container path, or null if the project has none.
+     */
+    public synchronized void putContainerPath(String projectName, String containerPath) {
+        containerPaths.put(projectName, containerPath);
+    }
+
+    /**
+     * Returns the install location of the JRE identified by the input container path.
+     *
+     * @param containerPath The JRE container path, or null for the workspace default JRE.
+     *
+     * @return The absolute path of the install location.
+     */
+    public String getInstallLocation(String containerPath) {
+        String key = (containerPath != null) ? containerPath : DEFAULT_INSTALL_KEY;
+        synchronized (this) {
+            String installLocation = installLocations.get(key);
+            if (installLocation != null) {
+                return installLocation;
+            }
+        }
+
+        IVMInstall install = null;
+        if (containerPath != null) {
+            install = JavaRuntime.getVMInstall(org.eclipse.core.runtime.Path.fromOSString(containerPath));
+        } else {
+            install = JavaRuntime.getDefaultVMInstall();
+        }
+
+        String installLocation = install.getInstallLocation().getAbsolutePath();
+        synchronized (this) {
+            installLocations.put(key, installLocation);
+        }
+
+        return installLocation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        if (affectsClasspath(event.getDelta())) {
+            synchronized (this) {
+                containerPaths.clear();
+            }
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Classpath change detected. Cached JRE container paths were discarded.");
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void defaultVMInstallChanged(IVMInstall previous, IVMInstall current) {
+        clearInstallLocations();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vmChanged(PropertyChangeEvent event) {
+        clearInstallLocations();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vmAdded(IVMInstall vm) {
+        clearInstallLocations();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vmRemoved(IVMInstall vm) {
+        clearInstallLocations();
+    }
+
+    /**
+     * Discards the cached install locations.
+     */
+    private synchronized void clearInstallLocations() {
+        installLocations.clear();
+    }
+
+    /**
+     * Returns whether or not the input delta adds, removes, opens, or closes a Java project, or changes the classpath of a Java
+     * project. Only the Java model and project levels of the delta are visited.
+     *
+     * @param delta The Java element delta.
+     *
+     * @return True if the input delta affects the classpath of a Java project. False, otherwise.
+     */
+    private static boolean affectsClasspath(IJavaElementDelta delta) {
+        IJavaElement element = delta.getElement();
+        if (element.getElementType() == IJavaElement.JAVA_MODEL) {
+            for (IJavaElementDelta child : delta.getAffectedChildren()) {
+                if (affectsClasspath(child)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        if (element.getElementType() != IJavaElement.JAVA_PROJECT) {
+            return false;
+        }
+
+        if (delta.getKind() == IJavaElementDelta.ADDED || delta.getKind() == IJavaElementDelta.REMOVED) {
+            return true;
+        }
+
+        int classpathFlags = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+                | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+        return (delta.getFlags() & classpathFlags) != 0;
+    }
+}
@@ -0,0 +1,263 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ui.launch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import io.openliberty.tools.eclipse.LibertyDevPlugin;
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Persisted times at which the Liberty launch configurations were last run.
+ *
+ * Run times used to be saved in the {@link StartTab#PROJECT_RUN_TIME} attribute of each configuration, which rewrote the whole
+ * configuration file and notified the launch configuration listeners on every start. They are now appended as single lines to a file
+ * under the plugin's state location, which is read into memory once. The file is compacted when it is read if most of its lines are
+ * out of date.
+ */
+public class LastRunStore {
+
+    /** Store file name. */
+    public static final String STORE_FILE_NAME = "last-run-times.txt";
+
+    /** Run time value recorded when a configuration is removed. */
+    private static final long REMOVED = -1;
+
+    /** The instance of this class. */
+    private static LastRunStore instance;
+
+    /** The store file. Null if the run times are not persisted. */
+    private final File storeFile;
+
+    /** The run times, keyed by configuration name. Null until loaded. */
+    private Map<String, Long> runTimes;
+
+    /**
+     * Constructor. The launch configurations use the store returned by {@link #getInstance()}.
+     *
+     * @param storeFile The store file, or null if the run times are not persisted.
+     */
+    public LastRunStore(File storeFile) {
+        this.storeFile = storeFile;
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return An instance of this class.
+     */
+    public static synchronized LastRunStore getInstance() {
+        if (instance == null) {
+            LibertyDevPlugin plugin = LibertyDevPlugin.getDefault();
+            instance = new LastRunStore((plugin != null) ? plugin.getStateLocation().append(STORE_FILE_NAME).toFile() : null);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns the time at which the input configuration was last run. If the time is not in the store, the time saved in the
+     * configuration's {@link StartTab#PROJECT_RUN_TIME} attribute by previous versions is returned.
+     *
+     * @param configuration The launch configuration.
+     *
+     * @return The time at which the input configuration was last run, or 0 if it never ran.
+     */
+    public synchronized long getRunTime(ILaunchConfiguration configuration) {
+        Long runTime = load().get(configuration.getName());
+        if (runTime != null) {
+            return runTime.longValue();
+        }
+
+        return getRunTimeAttribute(configuration);
+    }
+
+    /**
+     * Records the time at which the input configuration was run.
+     *
+     * @param configuration The launch configuration.
+     * @param runTime The run time.
+     */
+    public synchronized void setRunTime(ILaunchConfiguration configuration, long runTime) {
+        load().put(configuration.getName(), runTime);
+        append(List.of(toLine(configuration.getName(), runTime)));
+    }
+
+    /**
+     * Moves the run time of a renamed configuration.
+     *
+     * @param oldName The previous configuration name.
+     * @param newName The new configuration name.
+     */
+    public synchronized void rename(String oldName, String newName) {
+        Long runTime = load().remove(oldName);
+        if (runTime != null) {
+            load().put(newName, runTime);
+            append(List.of(toLine(oldName, REMOVED), toLine(newName, runTime.longValue())));
+        }
+    }
+
+    /**
+     * Removes the run time of a deleted configuration.
+     *
+     * @param name The configuration name.
+     */
+    public synchronized void remove(String name) {
+        if (load().remove(name) != null) {
+            append(List.of(toLine(name, REMOVED)));
+        }
+    }
+
+    /**
+     * Copies the {@link StartTab#PROJECT_RUN_TIME} attribute of the input configurations into the store, if their run time is not
+     * stored yet.
+     *
+     * @param configurations The launch configurations.
+     */
+    public synchronized void migrate(ILaunchConfiguration[] configurations) {
+        List<String> lines = new ArrayList<String>();
+        for (ILaunchConfiguration configuration : configurations) {
+            if (load().containsKey(configuration.getName())) {
+                continue;
+            }
+
+            long runTime = getRunTimeAttribute(configuration);
+            if (runTime > 0) {
+                load().put(configuration.getName(), runTime);
+                lines.add(toLine(configuration.getName(), runTime));
+            }
+        }
+
+        if (!lines.isEmpty()) {
+            append(lines);
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Migrated the run times of " + lines.size() + " launch configurations.");
+            }
+        }
+    }
+
+    /**
+     * Returns the run times, reading them from the store file the first time.
+     *
+     * @return The run times.
+     */
+    private Map<String, Long> load() {
+        if (runTimes == null) {
+            runTimes = new HashMap<String, Long>();
+            if (storeFile != null && storeFile.exists()) {
+                try {
+                    List<String> lines = Files.readAllLines(storeFile.toPath(), StandardCharsets.UTF_8);
+                    for (String line : lines) {
+                        int separator = line.lastIndexOf('\t');
+                        if (separator <= 0) {
+                            continue;
+                        }
+                        try {
+                            long runTime = Long.parseLong(line.substring(separator + 1));
+                            String name = line.substring(0, separator);
+                            if (runTime == REMOVED) {
+                                runTimes.remove(name);
+                            } else {
+                                runTimes.put(name, runTime);
+                            }
+                        } catch (NumberFormatException e) {
+                            // Skip the malformed line.
+                        }
+                    }
+
+                    // Rewrite the file if most of its lines are out of date.
+                    if (lines.size() > 2 * runTimes.size() + 100) {
+                        compact();
+                    }
+                } catch (IOException e) {
+                    if (Trace.isEnabled()) {
+                        Trace.getTracer().trace(Trace.TRACE_UI, "Unable to read the launch configuration run times from " + storeFile, e);
+                    }
+                }
+            }
+        }
+
+        return runTimes;
+    }
+
+    /**
+     * Rewrites the store file with the current run times only.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    private void compact() throws IOException {
+        List<String> lines = new ArrayList<String>();
+        for (Map.Entry<String, Long> entry : runTimes.entrySet()) {
+            lines.add(toLine(entry.getKey(), entry.getValue().longValue()));
+        }
+
+        Files.write(storeFile.toPath(), lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends the input lines to the store file.
+     *
+     * @param lines The lines to append.
+     */
+    private void append(List<String> lines) {
+        if (storeFile == null) {
+            return;
+        }
+
+        try {
+            Files.write(storeFile.toPath(), lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Unable to save the launch configuration run times to " + storeFile, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the run time saved in the input configuration's {@link StartTab#PROJECT_RUN_TIME} attribute.
+     *
+     * @param configuration The launch configuration.
+     *
+     * @return The run time saved in the configuration, or 0 if it is not set or cannot be read.
+     */
+    private static long getRunTimeAttribute(ILaunchConfiguration configuration) {
+        try {
+            return Long.parseLong(configuration.getAttribute(StartTab.PROJECT_RUN_TIME, "0"));
+        } catch (CoreException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the store file line of the input configuration name and run time.
+     *
+     * @param name The configuration name.
+     * @param runTime The run time.
+     *
+     * @return The store file line.
+     */
+    private static String toLine(String name, long runTime) {
+        return name + "\t" + runTime;
+    }
+}
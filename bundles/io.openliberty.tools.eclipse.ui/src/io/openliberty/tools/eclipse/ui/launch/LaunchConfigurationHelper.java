@@ -13,7 +13,6 @@
 package io.openliberty.tools.eclipse.ui.launch;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.core.resources.IProject;
@@ -34,13 +33,52 @@ public class LaunchConfigurationHelper {
     /** This class instance. */
     private static LaunchConfigurationHelper instance;
 
+    /** The index of the Liberty launch configurations. Created the first time a configuration is looked up. */
+    private LaunchConfigurationIndex configIndex;
+
     /**
      * Returns the instance of this class.
      * 
      * @return The instance of this class.
      */
-    public static LaunchConfigurationHelper getInstance() {
-        return (instance == null) ? new LaunchConfigurationHelper() : instance;
+    public static synchronized LaunchConfigurationHelper getInstance() {
+        if (instance == null) {
+            instance = new LaunchConfigurationHelper();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Unregisters the listener of the launch configuration index, if it was created.
+     */
+    public static synchronized void dispose() {
+        if (instance != null) {
+            instance.disposeIndex();
+        }
+    }
+
+    /**
+     * Returns the launch configuration index, creating it the first time.
+     * 
+     * @return The launch configuration index.
+     */
+    private synchronized LaunchConfigurationIndex getConfigIndex() {
+        if (configIndex == null) {
+            configIndex = LaunchConfigurationIndex.create();
+        }
+
+        return configIndex;
+    }
+
+    /**
+     * Unregisters the listener of the launch configuration index, if it was created.
+     */
+    private synchronized void disposeIndex() {
+        if (configIndex != null) {
+            configIndex.dispose();
+            configIndex = null;
+        }
     }
 
     /**
@@ -63,13 +101,11 @@ public class LaunchConfigurationHelper {
         ILaunchConfigurationType iLaunchConfigType = iLaunchMgr
                 .getLaunchConfigurationType(LaunchConfigurationDelegateLauncher.LAUNCH_CONFIG_TYPE_ID);
 
-        // Find the set of configurations that were used by the currently active project last.
-        ILaunchConfiguration[] existingConfigs = iLaunchMgr.getLaunchConfigurations(iLaunchConfigType);
-
-        List<ILaunchConfiguration> matchingConfigList = filterLaunchConfigurations(existingConfigs, iProject.getName(), runtimeEnv);
+        // Find the configuration that was used by the currently active project last.
+        LaunchConfigurationIndex index = getConfigIndex();
+        configuration = index.getLastRunConfiguration(iProject.getName(), runtimeEnv);
 
-        switch (matchingConfigList.size()) {
-        case 0:
+        if (configuration == null) {
             // Create a new configuration.
             String newName = iLaunchMgr.generateLaunchConfigurationName(iProject.getName());
             ILaunchConfigurationWorkingCopy workingCopy = iLaunchConfigType.newInstance(null, newName);
@@ -85,15 +121,7 @@ public class LaunchConfigurationHelper {
             }
 
             configuration = workingCopy.doSave();
-            break;
-        case 1:
-            // Return the found configuration.
-            configuration = matchingConfigList.get(0);
-            break;
-        default:
-            // Return the configuration that was run last.
-            configuration = getLastRunConfiguration(matchingConfigList);
-            break;
+            index.refresh(configuration);
         }
 
         return configuration;
@@ -153,50 +181,28 @@ public class LaunchConfigurationHelper {
      * @return The last run configuration found in the input list of launch configurations.
      */
     public ILaunchConfiguration getLastRunConfiguration(List<ILaunchConfiguration> launchConfigList) {
-        launchConfigList.sort(new Comparator<ILaunchConfiguration>() {
-
-            /**
-             * Organizes the items in the descending order. If there are more than one entries with equal value that are considered greater
-             * than the others, the one in the first position after the sort is returned in no particular order.
-             */
-            @Override
-            public int compare(ILaunchConfiguration lc1, ILaunchConfiguration lc2) {
-                int rc = 0;
-                try {
-                    long time1 = Long.valueOf(lc1.getAttribute(StartTab.PROJECT_RUN_TIME, "0"));
-                    long time2 = Long.valueOf(lc2.getAttribute(StartTab.PROJECT_RUN_TIME, "0"));
-                    rc = (time2 > time1) ? 1 : -1;
-                } catch (Exception e) {
-                    String msg = "An error occurred while trying to determine which configuration ran last. Configuration list: "
-                            + launchConfigList;
-                    if (Trace.isEnabled()) {
-                        Trace.getTracer().trace(Trace.TRACE_UI, msg, e);
-                    }
-                }
-
-                return rc;
+        // If more than one configuration ran last at the same time, the one found last in the list is returned.
+        ILaunchConfiguration lastRunConfig = null;
+        long lastRunTime = Long.MIN_VALUE;
+        for (ILaunchConfiguration launchConfig : launchConfigList) {
+            long runTime = LastRunStore.getInstance().getRunTime(launchConfig);
+            if (runTime >= lastRunTime) {
+                lastRunConfig = launchConfig;
+                lastRunTime = runTime;
             }
-        });
+        }
 
-        return launchConfigList.get(0);
+        return lastRunConfig;
     }
 
     /**
-     * Persists the configuration processing time in the configuration itself.
+     * Records the configuration processing time in the last run store. The configuration itself is not rewritten.
      * 
      * @param configuration The configuration being processed.
      */
     public void saveConfigProcessingTime(ILaunchConfiguration configuration) {
-        try {
-            ILaunchConfigurationWorkingCopy configWorkingCopy = configuration.getWorkingCopy();
-            configWorkingCopy.setAttribute(StartTab.PROJECT_RUN_TIME, String.valueOf(System.currentTimeMillis()));
-            configWorkingCopy.doSave();
-        } catch (Exception e) {
-            // Log it and move on.
-            if (Trace.isEnabled()) {
-                Trace.getTracer().trace(Trace.TRACE_UI, "Unable to set time for configuration " + configuration.getName(), e);
-            }
-        }
+        LastRunStore.getInstance().setRunTime(configuration, System.currentTimeMillis());
+        getConfigIndex().refresh(configuration);
     }
 
     /**
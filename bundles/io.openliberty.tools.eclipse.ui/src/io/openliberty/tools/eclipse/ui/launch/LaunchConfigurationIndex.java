@@ -0,0 +1,351 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ui.launch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchManager;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.ui.launch.LaunchConfigurationDelegateLauncher.RuntimeEnv;
+
+/**
+ * Index of the Liberty launch configurations, keyed by project name and runtime environment.
+ *
+ * The index is built from the saved configurations the first time it is used, and it is kept up to date by a launch configuration
+ * listener, so the saved configurations are not read on every start request. The configuration that ran last is tracked per project
+ * and runtime environment as configurations are indexed, so it is returned without scanning the project's configurations.
+ */
+class LaunchConfigurationIndex implements ILaunchConfigurationListener {
+
+    /** The indexed configurations. */
+    private final Map<ILaunchConfiguration, Entry> entries = new HashMap<ILaunchConfiguration, Entry>();
+
+    /** The indexed configurations of each project, keyed by project name. */
+    private final Map<String, ProjectEntries> entriesByProject = new HashMap<String, ProjectEntries>();
+
+    /**
+     * Creates an index of the saved Liberty launch configurations and registers its listener.
+     *
+     * @return The index.
+     */
+    static LaunchConfigurationIndex create() {
+        LaunchConfigurationIndex index = new LaunchConfigurationIndex();
+        ILaunchManager iLaunchMgr = DebugPlugin.getDefault().getLaunchManager();
+        iLaunchMgr.addLaunchConfigurationListener(index);
+        index.build(iLaunchMgr);
+
+        return index;
+    }
+
+    /**
+     * Unregisters the listener of this index.
+     */
+    void dispose() {
+        DebugPlugin debugPlugin = DebugPlugin.getDefault();
+        if (debugPlugin != null) {
+            debugPlugin.getLaunchManager().removeLaunchConfigurationListener(this);
+        }
+    }
+
+    /**
+     * Returns the configuration that ran last among the configurations of the input project and runtime environment.
+     *
+     * @param projectName The project name.
+     * @param runtimeEnv The runtime environment. If it is {@link RuntimeEnv#UNKNOWN}, configurations of all runtime environments are
+     *        considered.
+     *
+     * @return The configuration that ran last, or null if the project has no configurations for the runtime environment.
+     */
+    synchronized ILaunchConfiguration getLastRunConfiguration(String projectName, RuntimeEnv runtimeEnv) {
+        ProjectEntries projectEntries = entriesByProject.get(projectName);
+        if (projectEntries == null) {
+            return null;
+        }
+
+        Entry lastRun = projectEntries.getLastRun(runtimeEnv);
+        return (lastRun != null) ? lastRun.configuration : null;
+    }
+
+    /**
+     * Re-indexes the input configuration. This is used to make a configuration that was just created visible to lookups before its
+     * listener notification is received, and to pick up a new run time, which is not saved in the configuration.
+     *
+     * @param configuration The configuration.
+     */
+    void refresh(ILaunchConfiguration configuration) {
+        update(configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void launchConfigurationAdded(ILaunchConfiguration configuration) {
+        // Keep the run time of a renamed configuration.
+        ILaunchConfiguration movedFrom = DebugPlugin.getDefault().getLaunchManager().getMovedFrom(configuration);
+        if (movedFrom != null) {
+            LastRunStore.getInstance().rename(movedFrom.getName(), configuration.getName());
+        }
+
+        update(configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+        update(configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+        if (entries.containsKey(configuration) && DebugPlugin.getDefault().getLaunchManager().getMovedTo(configuration) == null) {
+            LastRunStore.getInstance().remove(configuration.getName());
+        }
+
+        remove(configuration);
+    }
+
+    /**
+     * Indexes the saved Liberty launch configurations.
+     *
+     * @param iLaunchMgr The launch manager.
+     */
+    private synchronized void build(ILaunchManager iLaunchMgr) {
+        try {
+            ILaunchConfigurationType iLaunchConfigType = iLaunchMgr
+                    .getLaunchConfigurationType(LaunchConfigurationDelegateLauncher.LAUNCH_CONFIG_TYPE_ID);
+            ILaunchConfiguration[] configurations = iLaunchMgr.getLaunchConfigurations(iLaunchConfigType);
+            LastRunStore.getInstance().migrate(configurations);
+            for (ILaunchConfiguration configuration : configurations) {
+                Entry entry = read(configuration);
+                if (entry != null) {
+                    put(entry);
+                }
+            }
+        } catch (CoreException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Unable to index the Liberty launch configurations.", e);
+            }
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_UI, "Indexed " + entries.size() + " Liberty launch configurations.");
+        }
+    }
+
+    /**
+     * Re-indexes the input configuration if it is a saved Liberty launch configuration.
+     *
+     * @param configuration The configuration that was added or changed.
+     */
+    private synchronized void update(ILaunchConfiguration configuration) {
+        if (configuration.isWorkingCopy()) {
+            return;
+        }
+
+        try {
+            if (!LaunchConfigurationDelegateLauncher.LAUNCH_CONFIG_TYPE_ID.equals(configuration.getType().getIdentifier())) {
+                return;
+            }
+
+            Entry newEntry = read(configuration);
+            Entry oldEntry = entries.get(configuration);
+            if (oldEntry != null && newEntry != null && oldEntry.projectName.equals(newEntry.projectName)) {
+                entries.put(configuration, newEntry);
+                entriesByProject.get(newEntry.projectName).replace(oldEntry, newEntry);
+            } else {
+                remove(configuration);
+                if (newEntry != null) {
+                    put(newEntry);
+                }
+            }
+        } catch (CoreException e) {
+            remove(configuration);
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Unable to index configuration " + configuration.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Reads the indexed attributes of the input configuration.
+     *
+     * @param configuration The Liberty launch configuration.
+     *
+     * @return The entry for the input configuration, or null if the configuration is not associated with a project.
+     *
+     * @throws CoreException If the configuration attributes cannot be read.
+     */
+    private Entry read(ILaunchConfiguration configuration) throws CoreException {
+        String projectName = configuration.getAttribute(StartTab.PROJECT_NAME, "");
+        if (projectName.isEmpty()) {
+            return null;
+        }
+
+        boolean runInContainer = configuration.getAttribute(StartTab.PROJECT_RUN_IN_CONTAINER, false);
+        long runTime = LastRunStore.getInstance().getRunTime(configuration);
+
+        return new Entry(configuration, projectName, runInContainer, runTime);
+    }
+
+    /**
+     * Adds the input entry to the index.
+     *
+     * @param entry The entry to add.
+     */
+    private void put(Entry entry) {
+        entries.put(entry.configuration, entry);
+        entriesByProject.computeIfAbsent(entry.projectName, k -> new ProjectEntries()).add(entry);
+    }
+
+    /**
+     * Removes the input configuration from the index.
+     *
+     * @param configuration The configuration to remove.
+     */
+    private void remove(ILaunchConfiguration configuration) {
+        Entry entry = entries.remove(configuration);
+        if (entry != null) {
+            ProjectEntries projectEntries = entriesByProject.get(entry.projectName);
+            projectEntries.remove(entry);
+            if (projectEntries.isEmpty()) {
+                entriesByProject.remove(entry.projectName);
+            }
+        }
+    }
+
+    /**
+     * An indexed configuration.
+     */
+    private static class Entry {
+
+        final ILaunchConfiguration configuration;
+
+        final String projectName;
+
+        final boolean runInContainer;
+
+        final long runTime;
+
+        Entry(ILaunchConfiguration configuration, String projectName, boolean runInContainer, long runTime) {
+            this.configuration = configuration;
+            this.projectName = projectName;
+            this.runInContainer = runInContainer;
+            this.runTime = runTime;
+        }
+
+        /**
+         * Returns the runtime environment index of this entry: 0 for local, 1 for container.
+         */
+        int env() {
+            return runInContainer ? 1 : 0;
+        }
+    }
+
+    /**
+     * The indexed configurations of a single project.
+     */
+    private static class ProjectEntries {
+
+        /** The number of configurations of each runtime environment, indexed by the run in container value (0: local, 1: container). */
+        final int[] counts = new int[2];
+
+        /** The configuration that ran last for each runtime environment. Null if it must be recalculated. */
+        final Entry[] lastRun = new Entry[2];
+
+        /** The configurations of the project. */
+        final Map<ILaunchConfiguration, Entry> all = new HashMap<ILaunchConfiguration, Entry>();
+
+        void add(Entry entry) {
+            int env = entry.env();
+            all.put(entry.configuration, entry);
+            counts[env]++;
+
+            // If the configuration that ran last is not known, it is calculated when it is requested.
+            if (counts[env] == 1 || (lastRun[env] != null && entry.runTime >= lastRun[env].runTime)) {
+                lastRun[env] = entry;
+            }
+        }
+
+        void remove(Entry entry) {
+            int env = entry.env();
+            all.remove(entry.configuration);
+            counts[env]--;
+            if (lastRun[env] == entry) {
+                lastRun[env] = null;
+            }
+        }
+
+        /**
+         * Replaces the entry of a configuration that changed. When the configuration that ran last is run again, it remains the
+         * configuration that ran last, so it is not recalculated.
+         */
+        void replace(Entry oldEntry, Entry newEntry) {
+            boolean stillLastRun = lastRun[oldEntry.env()] == oldEntry && oldEntry.env() == newEntry.env()
+                    && newEntry.runTime >= oldEntry.runTime;
+            remove(oldEntry);
+            add(newEntry);
+            if (stillLastRun) {
+                lastRun[newEntry.env()] = newEntry;
+            }
+        }
+
+        boolean isEmpty() {
+            return all.isEmpty();
+        }
+
+        Entry getLastRun(RuntimeEnv runtimeEnv) {
+            if (runtimeEnv == RuntimeEnv.LOCAL) {
+                return getLastRun(0);
+            } else if (runtimeEnv == RuntimeEnv.CONTAINER) {
+                return getLastRun(1);
+            }
+
+            Entry local = getLastRun(0);
+            Entry container = getLastRun(1);
+            if (local == null || (container != null && container.runTime >= local.runTime)) {
+                return container;
+            }
+
+            return local;
+        }
+
+        /**
+         * Returns the configuration that ran last for the input runtime environment. The configurations are only scanned when the
+         * configuration that ran last was removed or changed.
+         */
+        private Entry getLastRun(int env) {
+            if (lastRun[env] == null && counts[env] > 0) {
+                for (Entry entry : all.values()) {
+                    if (entry.env() == env && (lastRun[env] == null || entry.runTime >= lastRun[env].runTime)) {
+                        lastRun[env] = entry;
+                    }
+                }
+            }
+
+            return lastRun[env];
+        }
+    }
+}
@@ -38,8 +38,10 @@ import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.dialogs.PreferencesUtil;
 
 import io.openliberty.tools.eclipse.DevModeOperations;
+import io.openliberty.tools.eclipse.LibertyDevPlugin;
 import io.openliberty.tools.eclipse.logging.Trace;
 import io.openliberty.tools.eclipse.ui.dashboard.DashboardView;
+import io.openliberty.tools.eclipse.ui.preferences.LibertyToolsPreferencePage;
 import io.openliberty.tools.eclipse.utils.ErrorHandler;
 import io.openliberty.tools.eclipse.utils.Utils;
 
@@ -54,12 +56,18 @@ public class StartTab extends AbstractLaunchConfigurationTab {
     /** Configuration map key with a value representing the last project name associated with the configuration. */
     public static final String PROJECT_NAME = "io.openliberty.tools.eclipse.launch.project.name";
 
-    /** Configuration map key with a value representing the time when the associated project was last run. */
+    /**
+     * Configuration map key with a value representing the time when the associated project was last run. Liberty configurations no
+     * longer save it. Their run times are kept in the {@link LastRunStore}, which migrates the saved values.
+     */
     public static final String PROJECT_RUN_TIME = "io.openliberty.tools.eclipse.launch.project.time.run";
 
     /** Configuration map key with a value stating whether or not the associated project ran in a container. */
     public static final String PROJECT_RUN_IN_CONTAINER = "io.openliberty.tools.eclipse.launch.project.container.run";
 
+    /** Configuration map key with a value stating whether or not Maven projects should be run using the Maven Daemon (mvnd). */
+    public static final String PROJECT_USE_MAVEN_DAEMON = "io.openliberty.tools.eclipse.launch.project.mvnd.use";
+
     /** Main preference page ID. */
     public static final String MAIN_PREFERENCE_PAGE_ID = "io.openliberty.tools.eclipse.ui.preferences.page";
 
@@ -83,6 +91,9 @@ public class StartTab extends AbstractLaunchConfigurationTab {
     /** Holds the run in container check box. */
     private Button runInContainerCheckBox;
 
+    /** Holds the use Maven Daemon check box. */
+    private Button useMavenDaemonCheckBox;
+
     /** DevModeOperations instance. */
     private DevModeOperations devModeOps = DevModeOperations.getInstance();
 
@@ -110,6 +121,7 @@ public class StartTab extends AbstractLaunchConfigurationTab {
         Composite parmsGroupComposite = createGroupComposite(mainComposite, "", 2);
         createInputParmText(parmsGroupComposite);
         createRunInContainerButton(parmsGroupComposite);
+        createUseMavenDaemonButton(parmsGroupComposite);
 
         createLabelWithPreferenceLink(mainComposite);
     }
@@ -134,6 +146,10 @@ public class StartTab extends AbstractLaunchConfigurationTab {
 
         configuration.setAttribute(PROJECT_RUN_IN_CONTAINER, false);
 
+        // The Maven Daemon default comes from the Liberty preferences, and can be overridden per configuration.
+        configuration.setAttribute(PROJECT_USE_MAVEN_DAEMON,
+                LibertyDevPlugin.getDefault().getPreferenceStore().getBoolean(LibertyToolsPreferencePage.USE_MAVEN_DAEMON));
+
         if (Trace.isEnabled()) {
             Trace.getTracer().traceExit(Trace.TRACE_UI);
         }
@@ -158,6 +174,9 @@ public class StartTab extends AbstractLaunchConfigurationTab {
             boolean runInContainer = configuration.getAttribute(PROJECT_RUN_IN_CONTAINER, false);
             runInContainerCheckBox.setSelection(runInContainer);
 
+            boolean useMavenDaemon = configuration.getAttribute(PROJECT_USE_MAVEN_DAEMON, false);
+            useMavenDaemonCheckBox.setSelection(useMavenDaemon);
+
             String projectName = configuration.getAttribute(PROJECT_NAME, (String) null);
             if (projectName == null) {
                 super.setErrorMessage(
@@ -238,11 +257,15 @@ public class StartTab extends AbstractLaunchConfigurationTab {
 
         configuration.setAttribute(PROJECT_RUN_IN_CONTAINER, runInContainerBool);
 
+        boolean useMavenDaemonBool = useMavenDaemonCheckBox.getSelection();
+
+        configuration.setAttribute(PROJECT_USE_MAVEN_DAEMON, useMavenDaemonBool);
+
         configuration.setAttribute(PROJECT_START_PARM, startParamStr);
 
         if (Trace.isEnabled()) {
             Trace.getTracer().trace(Trace.TRACE_UI, "In performApply with project name = " + projectNameLabel.getText() + ", text = "
-                    + startParamStr + ", runInContainer = " + runInContainerBool);
+                    + startParamStr + ", runInContainer = " + runInContainerBool + ", useMavenDaemon = " + useMavenDaemonBool);
         }
     }
 
@@ -358,7 +381,7 @@ public class StartTab extends AbstractLaunchConfigurationTab {
 
         Link link = new Link(parent, SWT.WRAP);
         link.setFont(font);
-        link.setText("Maven/Gradle executable paths can be set in <a>Liberty Preferences</a>");
+        link.setText("Maven/Gradle/Maven Daemon executable paths can be set in <a>Liberty Preferences</a>");
         link.addSelectionListener(new SelectionAdapter() {
             @Override
             public void widgetSelected(SelectionEvent e) {
@@ -396,6 +419,33 @@ public class StartTab extends AbstractLaunchConfigurationTab {
         GridDataFactory.swtDefaults().applyTo(emptyColumnLabel);
     }
 
+    /**
+     * Creates the button entry that indicates whether or not Maven projects should be run using the Maven Daemon (mvnd).
+     * 
+     * @param parent The parent composite.
+     */
+    private void createUseMavenDaemonButton(Composite parent) {
+        useMavenDaemonCheckBox = new Button(parent, SWT.CHECK);
+        useMavenDaemonCheckBox.setText("Use Maven Daemon (mvnd) if available (Maven projects only)");
+        useMavenDaemonCheckBox.setSelection(false);
+        useMavenDaemonCheckBox.setFont(font);
+        useMavenDaemonCheckBox.addSelectionListener(new SelectionAdapter() {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void widgetSelected(SelectionEvent event) {
+                setDirty(true);
+                updateLaunchConfigurationDialog();
+            }
+        });
+        GridDataFactory.swtDefaults().applyTo(useMavenDaemonCheckBox);
+
+        Label emptyColumnLabel = new Label(parent, SWT.NONE);
+        GridDataFactory.swtDefaults().applyTo(emptyColumnLabel);
+    }
+
     /**
      * Returns the default start parameters.
      * 
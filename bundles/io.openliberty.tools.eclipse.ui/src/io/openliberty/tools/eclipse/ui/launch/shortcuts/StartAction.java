@@ -121,12 +121,13 @@ public class StartAction implements ILaunchShortcut {
         boolean runInContainer = configuration.getAttribute(StartTab.PROJECT_RUN_IN_CONTAINER, false);
         String configParms = configuration.getAttribute(StartTab.PROJECT_START_PARM, (String) null);
         String javaHomePath = JRETab.resolveJavaHome(configuration);
+        boolean useMavenDaemon = configuration.getAttribute(StartTab.PROJECT_USE_MAVEN_DAEMON, false);
 
         // Process the action.
         if (runInContainer) {
-            devModeOps.startInContainer(iProject, configParms, javaHomePath, mode);
+            devModeOps.startInContainer(iProject, configParms, javaHomePath, mode, useMavenDaemon, configuration.getName());
         } else {
-            devModeOps.start(iProject, configParms, javaHomePath, mode);
+            devModeOps.start(iProject, configParms, javaHomePath, mode, useMavenDaemon, configuration.getName());
         }
 
         if (Trace.isEnabled()) {
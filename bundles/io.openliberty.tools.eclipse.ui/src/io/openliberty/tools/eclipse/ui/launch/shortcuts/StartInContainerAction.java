@@ -118,6 +118,7 @@ public class StartInContainerAction implements ILaunchShortcut {
         // Process the action.
         String configParms = configuration.getAttribute(StartTab.PROJECT_START_PARM, (String) null);
         String javaHomePath = JRETab.resolveJavaHome(configuration);
-        devModeOps.startInContainer(iProject, configParms, javaHomePath, mode);
+        boolean useMavenDaemon = configuration.getAttribute(StartTab.PROJECT_USE_MAVEN_DAEMON, false);
+        devModeOps.startInContainer(iProject, configParms, javaHomePath, mode, useMavenDaemon, configuration.getName());
     }
-}
\ No newline at end of file
+}
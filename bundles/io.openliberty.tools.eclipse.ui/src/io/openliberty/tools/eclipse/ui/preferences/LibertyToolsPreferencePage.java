@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022 IBM Corporation and others.
+* Copyright (c) 2022, 2023 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,7 +18,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
@@ -29,8 +31,24 @@ import io.openliberty.tools.eclipse.utils.Utils;
 
 public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implements IWorkbenchPreferencePage {
 
+    /** Preference key for the Maven Daemon (mvnd) install location. */
+    public static final String MAVEN_DAEMON_PATH = "MVNDPATH";
+
+    /** Preference key stating whether new configurations default to running Maven projects with the Maven Daemon (mvnd). */
+    public static final String USE_MAVEN_DAEMON = "USEMVND";
+
+    /** Preference key for the first port of the range from which the ports of dev mode sessions are allocated. */
+    public static final String PORT_RANGE_START = "PORTRANGESTART";
+
+    /** Preference key for the last port of the range from which the ports of dev mode sessions are allocated. */
+    public static final String PORT_RANGE_END = "PORTRANGEEND";
+
     LibertyPrefDirectoryFieldEditor mvnInstallFE;
     LibertyPrefDirectoryFieldEditor gradleInstallFE;
+    LibertyPrefDirectoryFieldEditor mvndInstallFE;
+    BooleanFieldEditor useMvndFE;
+    IntegerFieldEditor portRangeStartFE;
+    IntegerFieldEditor portRangeEndFE;
 
     public LibertyToolsPreferencePage() {
 
@@ -43,8 +61,24 @@ public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implem
         mvnInstallFE = new LibertyPrefDirectoryFieldEditor("MVNPATH", "&Maven Install Location:", getFieldEditorParent());
         gradleInstallFE = new LibertyPrefDirectoryFieldEditor("GRADLEPATH", "&Gradle Install Location:", getFieldEditorParent());
 
+        mvndInstallFE = new LibertyPrefDirectoryFieldEditor(MAVEN_DAEMON_PATH, "Maven &Daemon (mvnd) Install Location:",
+                getFieldEditorParent());
+        useMvndFE = new BooleanFieldEditor(USE_MAVEN_DAEMON, "&Use the Maven Daemon (mvnd) by default for Maven projects if available",
+                getFieldEditorParent());
+
+        portRangeStartFE = new IntegerFieldEditor(PORT_RANGE_START, "&First port allocated to dev mode sessions (0 for any):",
+                getFieldEditorParent());
+        portRangeStartFE.setValidRange(0, 65535);
+        portRangeEndFE = new IntegerFieldEditor(PORT_RANGE_END, "&Last port allocated to dev mode sessions (0 for any):",
+                getFieldEditorParent());
+        portRangeEndFE.setValidRange(0, 65535);
+
         addField(mvnInstallFE);
         addField(gradleInstallFE);
+        addField(mvndInstallFE);
+        addField(useMvndFE);
+        addField(portRangeStartFE);
+        addField(portRangeEndFE);
 
     }
 
@@ -53,35 +87,27 @@ public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implem
         // second parameter is typically the plug-in id
         setPreferenceStore(new ScopedPreferenceStore(InstanceScope.INSTANCE, "io.openliberty.tools.eclipse.ui"));
         setDescription(
-                "Use the Browse buttons to specify the Maven and Gradle installation locations to be used for starting the application in dev mode, which will be used if no mvnw/gradlew wrapper is found.");
+                "Use the Browse buttons to specify the Maven and Gradle installation locations to be used for starting the application in dev mode, which will be used if no mvnw/gradlew wrapper is found. The Maven Daemon (mvnd) is found using its install location or the PATH, and is used for Maven projects without an mvnw wrapper whose run configuration enables it. Debug ports, and server ports that must be changed to avoid a conflict, are allocated from the port range if one is set.");
     }
 
     @Override
     public void propertyChange(PropertyChangeEvent event) {
         // Will be called upon any preference update
-        // Must check the validation of both fields in order to output
+        // Must check the validation of all install location fields in order to output
         // the correct error message if needed
         //
-        boolean isMvn;
-        boolean installMvnLocValid = false;
-        boolean installGradleLocValid = false;
-
-        String eventProp = event.getProperty();
         if (event.getProperty().equals("field_editor_value")) {
             // field for which validation is required
-            if (event.getSource() == mvnInstallFE) {
-                // validate mvn loc
-                isMvn = true;
-                installMvnLocValid = doValidation(isMvn, mvnInstallFE.getStringValue());
-                installGradleLocValid = doValidation(false, gradleInstallFE.getStringValue());
-            } else {
-                // validate gradle loc
-                isMvn = false;
-                installGradleLocValid = doValidation(isMvn, gradleInstallFE.getStringValue());
-                installMvnLocValid = doValidation(true, mvnInstallFE.getStringValue());
+            if (event.getSource() == useMvndFE || event.getSource() == portRangeStartFE || event.getSource() == portRangeEndFE) {
+                super.propertyChange(event);
+                return;
             }
 
-            if (installMvnLocValid && installGradleLocValid) {
+            boolean installMvnLocValid = doValidation(Utils.isWindows() ? "mvn.cmd" : "mvn", mvnInstallFE.getStringValue());
+            boolean installGradleLocValid = doValidation(Utils.isWindows() ? "gradle.bat" : "gradle", gradleInstallFE.getStringValue());
+            boolean installMvndLocValid = doValidation(Utils.isWindows() ? "mvnd.cmd" : "mvnd", mvndInstallFE.getStringValue());
+
+            if (installMvnLocValid && installGradleLocValid && installMvndLocValid) {
                 setValid(true);
                 setErrorMessage(null);
                 super.performApply();
@@ -92,27 +118,24 @@ public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implem
                 setValid(false);
                 if (!installMvnLocValid && !installGradleLocValid) {
                     setErrorMessage("Install locations must contain mvn and gradle executables");
-                } else if (!installMvnLocValid && installGradleLocValid) {
+                } else if (!installMvnLocValid) {
                     setErrorMessage("Install location must contain a bin directory containing a mvn executable");
-                } else {
+                } else if (!installGradleLocValid) {
                     setErrorMessage("Install location must contain a bin directory containing a gradle executable");
+                } else {
+                    setErrorMessage("Install location must contain a bin directory containing a mvnd executable");
                 }
             }
         }
     }
 
-    private boolean doValidation(boolean ismvn, String installLoc) {
+    private boolean doValidation(String execName, String installLoc) {
         if (installLoc.equals("")) {
             // an empty field is ok
             return true;
         } else {
-            if (ismvn) {
-                Path mvnCmd = Paths.get(installLoc + File.separator + "bin" + File.separator, Utils.isWindows() ? "mvn.cmd" : "mvn");
-                return Files.exists(mvnCmd);
-            } else {
-                Path mvnCmd = Paths.get(installLoc + File.separator + "bin" + File.separator, Utils.isWindows() ? "gradle.bat" : "gradle");
-                return Files.exists(mvnCmd);
-            }
+            Path cmd = Paths.get(installLoc + File.separator + "bin" + File.separator, execName);
+            return Files.exists(cmd);
         }
     }
 }
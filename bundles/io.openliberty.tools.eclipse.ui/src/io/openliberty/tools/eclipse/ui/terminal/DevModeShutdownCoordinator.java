@@ -0,0 +1,147 @@
+/*******************************************************************************
+* Copyright (c) 2023 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.ui.terminal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.openliberty.tools.eclipse.DevModeOperations;
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Stops all dev mode sessions running on terminal tabs.
+ *
+ * The exit command is issued to all sessions concurrently. The processes started by the terminals, and all their descendants,
+ * are then given a single global deadline to exit. Processes still running after the deadline are destroyed, so that no server
+ * JVMs are left holding ports after the terminals are gone.
+ */
+public class DevModeShutdownCoordinator {
+
+    /** Number of seconds all dev mode sessions are given to exit after the exit command is issued. */
+    public static final int SHUTDOWN_TIMEOUT_SECS = 10;
+
+    /** Number of seconds given to processes to exit after a graceful destroy request, before they are forcibly destroyed. */
+    private static final int DESTROY_GRACE_SECS = 2;
+
+    /** The processes to wait for. Descendants are listed after their ancestors. */
+    private final Set<ProcessHandle> processes = new LinkedHashSet<ProcessHandle>();
+
+    /**
+     * Issues the exit command to the dev mode sessions running on the input terminal tabs, and records the processes to wait for.
+     * This call does not wait for the processes to exit. It must be called before the terminals are disposed.
+     *
+     * @param projectTabs The terminal tabs keyed by project name.
+     */
+    public void issueExit(Map<String, ProjectTab> projectTabs) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_UI, new Object[] { projectTabs.keySet() });
+        }
+
+        // Record the process trees before the exit command is issued. Once dev mode starts exiting, children may be re-parented
+        // and would no longer be found as descendants of the terminal processes.
+        for (ProjectTab projectTab : projectTabs.values()) {
+            ProcessHandle process = projectTab.getProcess();
+            if (process != null && process.isAlive()) {
+                processes.add(process);
+                process.descendants().forEach(processes::add);
+            }
+        }
+
+        // Issue the exit command to all sessions concurrently.
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(projectTabs.size(), 8)));
+        try {
+            List<CompletableFuture<Void>> writes = new ArrayList<CompletableFuture<Void>>();
+            for (Map.Entry<String, ProjectTab> entry : projectTabs.entrySet()) {
+                String projectName = entry.getKey();
+                ProjectTab projectTab = entry.getValue();
+                writes.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        projectTab.writeToStream(DevModeOperations.DEVMODE_COMMAND_EXIT.getBytes(), true);
+                    } catch (Exception e) {
+                        if (Trace.isEnabled()) {
+                            Trace.getTracer().trace(Trace.TRACE_UI, "Failed to exit dev mode associated with project " + projectName, e);
+                        }
+                    }
+                }, executor));
+            }
+
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture[writes.size()])).get(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Not all dev mode sessions were issued the exit command.", e);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_UI, processes);
+        }
+    }
+
+    /**
+     * Waits for the recorded processes to exit within the global deadline. Processes still running after the deadline are
+     * destroyed.
+     *
+     * @return The number of processes that had to be destroyed.
+     */
+    public int awaitExit() {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_UI, processes);
+        }
+
+        try {
+            List<CompletableFuture<ProcessHandle>> exits = processes.stream().map(ProcessHandle::onExit).collect(Collectors.toList());
+            CompletableFuture.allOf(exits.toArray(new CompletableFuture[exits.size()])).get(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Timed out. The stragglers are destroyed below.
+        }
+
+        // Destroy the stragglers, descendants first.
+        List<ProcessHandle> stragglers = processes.stream().filter(ProcessHandle::isAlive).collect(Collectors.toList());
+        for (int i = stragglers.size() - 1; i >= 0; i--) {
+            stragglers.get(i).destroy();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DESTROY_GRACE_SECS);
+        for (ProcessHandle straggler : stragglers) {
+            long remaining = deadline - System.nanoTime();
+            try {
+                if (remaining > 0) {
+                    straggler.onExit().get(remaining, TimeUnit.NANOSECONDS);
+                }
+            } catch (Exception e) {
+                // Timed out or interrupted. Fall through to the forcible destroy.
+            }
+            if (straggler.isAlive()) {
+                straggler.destroyForcibly();
+            }
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_UI, stragglers);
+        }
+
+        return stragglers.size();
+    }
+}
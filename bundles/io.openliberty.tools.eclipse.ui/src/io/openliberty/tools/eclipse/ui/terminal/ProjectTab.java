@@ -16,6 +16,8 @@ import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.swt.custom.CTabItem;
@@ -64,6 +66,9 @@ public class ProjectTab {
     /** Tab image */
     private Image libertyImage;
 
+    /** The process running the terminal command. It is null if the process could not be identified. */
+    private volatile ProcessHandle process;
+
     /** States. */
     public static enum State {
         INACTIVE, STARTED, STOPPED
@@ -116,12 +121,18 @@ public class ProjectTab {
             Trace.getTracer().traceEntry(Trace.TRACE_UI, new Object[] { projectPath, command, envs });
         }
 
+        // Record the processes that already exist so that the process started by the terminal can be identified.
+        Set<ProcessHandle> existingChildren = ProcessHandle.current().children().collect(Collectors.toSet());
+
         ITerminalService.Done done = new ITerminalService.Done() {
             @Override
             public void done(IStatus status) {
                 // The console tab for the associated project opened.
                 if (status.getCode() == IStatus.OK) {
 
+                    // Save the process running the command.
+                    process = findTerminalProcess(existingChildren, command);
+
                     // Save the object representing the currently active console tab instance.
                     projectTab = getActiveProjectTab();
 
@@ -148,6 +159,51 @@ public class ProjectTab {
         }
     }
 
+    /**
+     * Returns the process started by the terminal to run the input command. This is a best effort lookup: the process is a child
+     * of the current process that did not exist before the terminal was opened, and that is not tracked by another project tab.
+     * If there are several candidates, such as when terminals are opened concurrently, the one whose command line contains the
+     * command is chosen if it is the only one. Otherwise, no process is chosen rather than risking choosing the process of another
+     * terminal. Process command lines are not available on all platforms.
+     *
+     * @param existingChildren The child processes that existed before the terminal was opened.
+     * @param command The command run on the terminal.
+     *
+     * @return The process started by the terminal to run the input command, or null if it could not be identified.
+     */
+    private ProcessHandle findTerminalProcess(Set<ProcessHandle> existingChildren, String command) {
+        Set<ProcessHandle> trackedProcesses = ProjectTabController.getInstance().getTerminalProcesses();
+        List<ProcessHandle> candidates = ProcessHandle.current().children()
+                .filter(ph -> !existingChildren.contains(ph) && !trackedProcesses.contains(ph)).collect(Collectors.toList());
+
+        ProcessHandle found = null;
+        if (candidates.size() == 1) {
+            found = candidates.get(0);
+        } else if (candidates.size() > 1) {
+            String cmdToMatch = command.trim();
+            List<ProcessHandle> matches = candidates.stream()
+                    .filter(ph -> ph.info().commandLine().map(cl -> cl.contains(cmdToMatch)).orElse(false)).collect(Collectors.toList());
+            if (matches.size() == 1) {
+                found = matches.get(0);
+            }
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_UI, "Terminal process for project " + projectName + ": " + found + ". Candidates: " + candidates);
+        }
+
+        return found;
+    }
+
+    /**
+     * Returns the process running the terminal command.
+     *
+     * @return The process running the terminal command, or null if it could not be identified.
+     */
+    public ProcessHandle getProcess() {
+        return process;
+    }
+
     /**
      * Returns a map of properties needed to launch a terminal.
      *
@@ -370,6 +426,7 @@ public class ProjectTab {
         sb.append("projectName: ").append(projectName).append(", ");
         sb.append("State: ").append(state).append(", ");
         sb.append("Connector: ").append(connector).append(", ");
+        sb.append("Process: ").append(process).append(", ");
         sb.append("TabListener: ").append(tabListener);
         return sb.toString();
     }
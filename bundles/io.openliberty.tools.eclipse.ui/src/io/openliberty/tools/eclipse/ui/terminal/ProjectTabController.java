@@ -12,14 +12,22 @@
 *******************************************************************************/
 package io.openliberty.tools.eclipse.ui.terminal;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.custom.CTabFolder2Listener;
 import org.eclipse.swt.custom.CTabItem;
@@ -254,11 +262,73 @@ public class ProjectTabController {
      * Exits Liberty dev mode running on all active terminal tabs in the view.
      */
     public void processTerminalViewCleanup() {
-        for (Map.Entry<String, ProjectTab> entry : projectTabMap.entrySet()) {
-            String projectName = entry.getKey();
-            ProjectTab projectTab = entry.getValue();
-            exitDevModeOnTerminalTab(projectName, projectTab);
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_UI, new Object[] { projectTabMap.size() });
+        }
+
+        if (projectTabMap.isEmpty()) {
+            return;
+        }
+
+        // Issue the exit command to all sessions at once, and then wait for all of them against a single deadline.
+        DevModeShutdownCoordinator coordinator = new DevModeShutdownCoordinator();
+        Map<String, ProjectTab> projectTabs = new HashMap<String, ProjectTab>(projectTabMap);
+        boolean closing = PlatformUI.getWorkbench().isClosing();
+
+        // The sessions are stopped outside of the UI thread. A progress dialog is shown if they take long to stop.
+        try {
+            PlatformUI.getWorkbench().getProgressService().busyCursorWhile(monitor -> {
+                monitor.beginTask("Stopping Liberty dev mode sessions...", IProgressMonitor.UNKNOWN);
+                coordinator.issueExit(projectTabs);
+
+                // If the workbench is shutting down, wait here so that no JVMs are left behind.
+                if (closing) {
+                    coordinator.awaitExit();
+                }
+                monitor.done();
+            });
+        } catch (InvocationTargetException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Failed to stop the Liberty dev mode sessions.", e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!closing) {
+            Job job = new Job("Stopping Liberty dev mode sessions...") {
+                @Override
+                protected IStatus run(IProgressMonitor monitor) {
+                    monitor.beginTask(getName(), IProgressMonitor.UNKNOWN);
+                    coordinator.awaitExit();
+                    monitor.done();
+                    return Status.OK_STATUS;
+                }
+            };
+            job.setUser(true);
+            job.schedule();
         }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_UI);
+        }
+    }
+
+    /**
+     * Returns the processes running the commands of all active terminal tabs.
+     *
+     * @return The processes running the commands of all active terminal tabs.
+     */
+    public Set<ProcessHandle> getTerminalProcesses() {
+        Set<ProcessHandle> processes = new HashSet<ProcessHandle>();
+        for (ProjectTab projectTab : projectTabMap.values()) {
+            ProcessHandle process = projectTab.getProcess();
+            if (process != null) {
+                processes.add(process);
+            }
+        }
+
+        return processes;
     }
 
     /**
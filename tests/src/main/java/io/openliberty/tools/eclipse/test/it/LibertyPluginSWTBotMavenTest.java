@@ -25,6 +25,7 @@ import java.util.List;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
@@ -690,6 +691,78 @@ public class LibertyPluginSWTBotMavenTest extends AbstractLibertyPluginSWTBotTes
         //terminal.close();
     }
 
+    /**
+     * Tests that the debugger is re-attached when the server JVM being debugged stops and dev mode starts it again.
+     */
+    @Test
+    public void testDebuggerReattachedAfterServerJvmKilled() {
+
+        // Delete any previously created configs.
+        deleteLibertyToolsRunConfigEntriesFromAppRunAs(MVN_APP_NAME);
+
+        // Start dev mode.
+        launchStartWithDebugAsShortcut(MVN_APP_NAME);
+
+        goGlobal("Terminal");
+
+        String testAppPath = projectPath.toAbsolutePath().toString() + "/target/liberty";
+        try {
+            // Validate application is up and running.
+            LibertyPluginTestUtils.validateApplicationOutcome(MVN_APP_NAME, true, testAppPath);
+
+            // If there are issues with the workspace, close the error dialog.
+            pressWorkspaceErrorDialogProceedButton(bot);
+
+            // Validate that the debugger is attached.
+            IDebugTarget initialTarget = waitForDebugTarget(MVN_APP_NAME, null);
+            Assertions.assertTrue(initialTarget != null, "The debugger was not attached to the server JVM of " + MVN_APP_NAME + ".");
+
+            // Kill the server JVM being debugged. The debug target terminates and dev mode starts the server again.
+            LibertyPluginTestUtils.killLibertyServerJvm(testAppPath);
+
+            // Validate that the debugger is attached to the new server JVM.
+            IDebugTarget reattachedTarget = waitForDebugTarget(MVN_APP_NAME, initialTarget);
+            Assertions.assertTrue(reattachedTarget != null,
+                    "The debugger was not re-attached after the server JVM of " + MVN_APP_NAME + " was killed.");
+        } finally {
+            // Switch back to Java so we can find Pkg Explorer
+            openJavaPerspectiveViaMenu();
+
+            // Stop dev mode using the Run As stop command.
+            launchStopWithRunAsShortcut(MVN_APP_NAME);
+
+            // Validate application stopped.
+            LibertyPluginTestUtils.validateLibertyServerStopped(testAppPath);
+        }
+    }
+
+    /**
+     * Waits for the debugger to be attached to the server JVM of the input project.
+     * 
+     * @param projectName The project name.
+     * @param previousTarget A debug target that does not count as attached, or null.
+     * 
+     * @return The attached debug target, or null if the debugger was not attached within the wait time.
+     */
+    private IDebugTarget waitForDebugTarget(String projectName, IDebugTarget previousTarget) {
+        int maxAttempts = 60;
+        for (int i = 0; i < maxAttempts; i++) {
+            IDebugTarget target = LibertyPluginTestUtils.getActiveRemoteJavaAppDebugTarget(projectName);
+            if (target != null && target != previousTarget) {
+                return target;
+            }
+
+            try {
+                Thread.sleep(3000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        return null;
+    }
+
     @Test
     @Disabled
     public void testStartWithNoWrapperAndNoPreferencesSet() {
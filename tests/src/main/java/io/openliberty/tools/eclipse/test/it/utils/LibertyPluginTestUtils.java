@@ -28,13 +28,19 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
@@ -42,6 +48,8 @@ import org.eclipse.ui.browser.IWorkbenchBrowserSupport;
 import org.junit.jupiter.api.Assertions;
 import org.osgi.service.prefs.Preferences;
 
+import io.openliberty.tools.eclipse.ui.launch.StartTab;
+
 /**
  * Tests Open Liberty Eclipse plugin functions.
  */
@@ -470,4 +478,51 @@ public class LibertyPluginTestUtils {
 
         return jre;
     }
+
+    /**
+     * Returns the debug target of the active Remote Java Application launch associated with the input project.
+     * 
+     * @param projectName The project name.
+     * 
+     * @return The debug target of the active Remote Java Application launch associated with the input project, or null if there
+     *         is none.
+     */
+    public static IDebugTarget getActiveRemoteJavaAppDebugTarget(String projectName) {
+        for (ILaunch launch : DebugPlugin.getDefault().getLaunchManager().getLaunches()) {
+            try {
+                ILaunchConfiguration config = launch.getLaunchConfiguration();
+                IDebugTarget target = launch.getDebugTarget();
+                if (config != null && target != null && !target.isDisconnected()
+                        && IJavaLaunchConfigurationConstants.ID_REMOTE_JAVA_APPLICATION.equals(config.getType().getIdentifier())
+                        && projectName.equals(config.getAttribute(StartTab.PROJECT_NAME, (String) null))) {
+                    return target;
+                }
+            } catch (Exception e) {
+                // Skip the launch.
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Forcibly ends the Liberty server JVM running from the input Liberty installation, and waits for it to exit.
+     * 
+     * @param testAppPath The base path to the Liberty installation.
+     */
+    public static void killLibertyServerJvm(String testAppPath) {
+        String wlpPath = Paths.get(testAppPath, "wlp").toAbsolutePath().toString();
+        Optional<ProcessHandle> serverJvm = ProcessHandle.allProcesses().filter(ph -> {
+            Optional<String> cmdLine = ph.info().commandLine();
+            return cmdLine.isPresent() && cmdLine.get().contains("ws-server.jar") && cmdLine.get().contains(wlpPath);
+        }).findFirst();
+        assertNotNull(serverJvm.orElse(null), "The Liberty server JVM running from " + wlpPath + " was not found.");
+
+        serverJvm.get().destroyForcibly();
+        try {
+            serverJvm.get().onExit().get(60, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            Assertions.fail("The Liberty server JVM running from " + wlpPath + " did not exit.", e);
+        }
+    }
 }
@@ -23,11 +23,27 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jface.preference.IPreferenceStore;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -36,7 +52,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
+import io.openliberty.tools.eclipse.CommandBuilder;
 import io.openliberty.tools.eclipse.DebugModeHandler;
+import io.openliberty.tools.eclipse.LibertyDevPlugin;
+import io.openliberty.tools.eclipse.MessagesLogIndex;
+import io.openliberty.tools.eclipse.MessagesLogIndex.Severity;
+import io.openliberty.tools.eclipse.PortReservationManager;
+import io.openliberty.tools.eclipse.RemoteJavaAppConfigIndex;
+import io.openliberty.tools.eclipse.StartTimeHistory;
+import io.openliberty.tools.eclipse.StartTimeRecord;
+import io.openliberty.tools.eclipse.StartTimeRecord.Milestone;
+import io.openliberty.tools.eclipse.ls.plugin.JDTRequestExecutor;
+import io.openliberty.tools.eclipse.ls.plugin.JDTRequestExecutor.Priority;
+import io.openliberty.tools.eclipse.ui.launch.JavaInstallCache;
+import io.openliberty.tools.eclipse.ui.launch.LastRunStore;
+import io.openliberty.tools.eclipse.ui.launch.LaunchConfigurationDelegateLauncher;
 import io.openliberty.tools.eclipse.ui.launch.LaunchConfigurationDelegateLauncher.RuntimeEnv;
 import io.openliberty.tools.eclipse.ui.launch.LaunchConfigurationHelper;
 import io.openliberty.tools.eclipse.ui.launch.StartTab;
@@ -115,6 +145,98 @@ public class LibertyPluginUnitTest {
         }
     }
 
+    /**
+     * Tests that start time records are persisted and that start time regressions are detected.
+     */
+    @Test
+    public void testStartTimeHistory() throws Exception {
+        // Test 1. Persisted form round trip.
+        StartTimeRecord record = new StartTimeRecord("project1", "config\t1", 1000);
+        record.record(Milestone.BUILD_JVM_STARTED, 1500);
+        record.record(Milestone.SERVER_READY, 9000);
+        StartTimeRecord copy = StartTimeRecord.fromLine(record.toLine());
+        Assertions.assertTrue(copy != null, "The record could not be read back from its persisted form: " + record.toLine());
+        Assertions.assertTrue(copy.getKey().equals(record.getKey()), "The record key was not preserved. Found: " + copy.getKey());
+        Assertions.assertTrue(copy.getElapsed(Milestone.BUILD_JVM_STARTED) == 500,
+                "The build JVM milestone should have been 500. Found: " + copy.getElapsed(Milestone.BUILD_JVM_STARTED));
+        Assertions.assertTrue(!copy.isRecorded(Milestone.APP_READY), "The app ready milestone should not have been recorded.");
+        Assertions.assertTrue(copy.getReadyTime() == 8000, "The ready time should have been 8000. Found: " + copy.getReadyTime());
+        Assertions.assertTrue(StartTimeRecord.fromLine("not a record") == null, "An invalid line should have returned null.");
+
+        // Test 2. Percentiles.
+        List<Long> values = Arrays.asList(50L, 10L, 40L, 20L, 30L);
+        Assertions.assertTrue(StartTimeHistory.getPercentile(values, 50) == 30,
+                "The median should have been 30. Found: " + StartTimeHistory.getPercentile(values, 50));
+        Assertions.assertTrue(StartTimeHistory.getPercentile(values, 95) == 50,
+                "The 95th percentile should have been 50. Found: " + StartTimeHistory.getPercentile(values, 95));
+
+        // Test 3. Regressions.
+        List<Long> previous = Arrays.asList(10000L, 10000L, 10000L);
+        Assertions.assertTrue(!StartTimeHistory.isRegression(12500, previous), "A start 25% slower should not have been a regression.");
+        Assertions.assertTrue(StartTimeHistory.isRegression(12600, previous), "A start over 25% slower should have been a regression.");
+        Assertions.assertTrue(!StartTimeHistory.isRegression(20000, previous.subList(0, 2)),
+                "A regression should not have been reported with fewer than the minimum number of samples.");
+    }
+
+    /**
+     * Tests that messages.log content is indexed by message code and severity.
+     */
+    @Test
+    public void testMessagesLogIndex() throws Exception {
+        MessagesLogIndex index = MessagesLogIndex.getInstance();
+        String projectName = "messagesLogIndexProject";
+        index.clear(projectName);
+
+        // Test 1. Incremental indexing.
+        String lines1 = "[10/19/23, 10:15:01:123 EDT] 00000023 com.ibm.ws.kernel.feature.internal.FeatureManager A CWWKF0011I: The server is ready.\n"
+                + "[10/19/23, 10:15:02:123 EDT] 00000024 com.ibm.ws.config.xml.internal.ConfigValidator W CWWKG0011W: The configuration validation did not succeed.\n"
+                + "\tat com.example.Stack.trace(Stack.java:1)\n";
+        index.linesAppended(projectName, lines1, 0);
+        String lines2 = "[10/19/23, 10:15:03:123 EDT] 00000025 com.ibm.ws.app.manager.AppMessageHelper E CWWKZ0002E: An exception occurred.\n";
+        index.linesAppended(projectName, lines2, lines1.length());
+
+        Assertions.assertTrue(index.getCount(projectName, Severity.AUDIT) == 1,
+                "There should have been 1 audit message. Found: " + index.getCount(projectName, Severity.AUDIT));
+        Assertions.assertTrue(index.getCount(projectName, Severity.WARNING) == 1,
+                "There should have been 1 warning message. Found: " + index.getCount(projectName, Severity.WARNING));
+        Assertions.assertTrue(index.getCount(projectName, Severity.ERROR) == 1,
+                "There should have been 1 error message. Found: " + index.getCount(projectName, Severity.ERROR));
+        Assertions.assertTrue(index.getCount(projectName, "CWWKF0011I") == 1, "Message CWWKF0011I should have been counted once.");
+        List<MessagesLogIndex.Entry> entries = index.getEntries(projectName);
+        Assertions.assertTrue(entries.size() == 2, "There should have been 2 entries. Found: " + entries);
+        Assertions.assertTrue(entries.get(1).getLineNumber() == 4 && "CWWKZ0002E".equals(entries.get(1).getCode()),
+                "The error entry should have been on line 4 with code CWWKZ0002E. Found: " + entries.get(1));
+
+        // Test 2. Roll over.
+        index.linesAppended(projectName, lines2, 0);
+        Assertions.assertTrue(index.getCount(projectName, Severity.WARNING) == 0, "The warning count should have been reset.");
+        Assertions.assertTrue(index.getEntries(projectName).get(0).getLineNumber() == 1, "The line numbers should have been reset.");
+
+        index.clear(projectName);
+    }
+
+    /**
+     * Tests that ports are reserved for a single project at a time, and that the server.xml HTTP ports are found.
+     */
+    @Test
+    public void testPortReservation() throws Exception {
+        PortReservationManager portManager = PortReservationManager.getInstance();
+
+        // Test 1. Reservation ownership.
+        int port = portManager.reserve("portProject1");
+        Assertions.assertTrue("portProject1".equals(portManager.getOwner(port)), "Port " + port + " should have been owned by portProject1.");
+        Assertions.assertTrue(portManager.reserve("portProject1", port), "The owner should have been able to reserve its port again.");
+        Assertions.assertFalse(portManager.reserve("portProject2", port), "Port " + port + " should not have been reserved twice.");
+        portManager.release("portProject1");
+        Assertions.assertTrue(portManager.getOwner(port) == null, "Port " + port + " should have been released.");
+
+        // Test 2. server.xml HTTP ports.
+        String serverXml = "<server>\n<!-- <httpEndpoint id=\"old\" httpPort=\"1111\"/> -->\n"
+                + "<httpEndpoint id=\"defaultHttpEndpoint\" host=\"*\"\n httpPort=\"${default.http.port}\" httpsPort='9443'/>\n</server>";
+        List<String> ports = PortReservationManager.getHttpEndpointPorts(serverXml);
+        Assertions.assertTrue(ports.equals(Arrays.asList("${default.http.port}", "9443")), "Unexpected ports found: " + ports);
+    }
+
     /**
      * Tests that run configurations are filtered correctly based on the project, run environment.
      * 
@@ -237,6 +359,436 @@ public class LibertyPluginUnitTest {
                 + " was not returned. Configuration returned:: " + cfgNameFoundT5Dev);
     }
 
+    /**
+     * Tests that the configuration that ran last is tracked when configurations are renamed and deleted.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testLastRunConfigAfterRenameAndDelete() throws Exception {
+        LaunchConfigurationHelper launchConfigHelper = LaunchConfigurationHelper.getInstance();
+        String projectName = "lastRunIndexProject";
+        IProject project = mock(IProject.class);
+        when(project.getName()).thenReturn(projectName);
+
+        ILaunchConfiguration cfg1 = saveLibertyConfiguration("lastRunIndex1", projectName);
+        ILaunchConfiguration cfg2 = saveLibertyConfiguration("lastRunIndex2", projectName);
+        try {
+            launchConfigHelper.saveConfigProcessingTime(cfg1);
+            Thread.sleep(10);
+            launchConfigHelper.saveConfigProcessingTime(cfg2);
+
+            // Test 1. The configuration that ran last is returned.
+            ILaunchConfiguration lastRunConfig = launchConfigHelper.getLaunchConfiguration(project, "run", RuntimeEnv.LOCAL);
+            Assertions.assertTrue("lastRunIndex2".equals(lastRunConfig.getName()),
+                    "The expected configuration of lastRunIndex2 was not returned. Configuration returned: " + lastRunConfig.getName());
+
+            // Test 2. A renamed configuration keeps its run time.
+            ILaunchConfigurationWorkingCopy workingCopy = cfg2.getWorkingCopy();
+            workingCopy.rename("lastRunIndex2Renamed");
+            cfg2 = workingCopy.doSave();
+            lastRunConfig = launchConfigHelper.getLaunchConfiguration(project, "run", RuntimeEnv.LOCAL);
+            Assertions.assertTrue("lastRunIndex2Renamed".equals(lastRunConfig.getName()),
+                    "The expected configuration of lastRunIndex2Renamed was not returned. Configuration returned: "
+                            + lastRunConfig.getName());
+
+            // Test 3. When the configuration that ran last is deleted, the configuration that ran before it is returned.
+            cfg2.delete();
+            lastRunConfig = launchConfigHelper.getLaunchConfiguration(project, "run", RuntimeEnv.LOCAL);
+            Assertions.assertTrue("lastRunIndex1".equals(lastRunConfig.getName()),
+                    "The expected configuration of lastRunIndex1 was not returned. Configuration returned: " + lastRunConfig.getName());
+
+            // Test 4. The project has no container configuration.
+            lastRunConfig = launchConfigHelper.getLaunchConfiguration(project, "run", RuntimeEnv.UNKNOWN);
+            Assertions.assertTrue("lastRunIndex1".equals(lastRunConfig.getName()),
+                    "The expected configuration of lastRunIndex1 was not returned. Configuration returned: " + lastRunConfig.getName());
+        } finally {
+            cfg1.delete();
+            cfg2.delete();
+        }
+    }
+
+    /**
+     * Saves a Liberty launch configuration that runs the input project locally.
+     * 
+     * @param name The configuration name.
+     * @param projectName The name of the project associated with the configuration.
+     * 
+     * @return The saved configuration.
+     * 
+     * @throws CoreException
+     */
+    private ILaunchConfiguration saveLibertyConfiguration(String name, String projectName) throws CoreException {
+        ILaunchConfigurationType libertyConfigType = DebugPlugin.getDefault().getLaunchManager()
+                .getLaunchConfigurationType(LaunchConfigurationDelegateLauncher.LAUNCH_CONFIG_TYPE_ID);
+        ILaunchConfigurationWorkingCopy workingCopy = libertyConfigType.newInstance(null, name);
+        workingCopy.setAttribute(StartTab.PROJECT_NAME, projectName);
+        workingCopy.setAttribute(StartTab.PROJECT_RUN_IN_CONTAINER, false);
+
+        return workingCopy.doSave();
+    }
+
+    /**
+     * Tests that the run times are replayed from the store file, that the store file is compacted, and that the run times saved in
+     * the configurations by previous versions are migrated.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testLastRunStore() throws Exception {
+        // Test 1. Replay. The last line of a configuration wins, removed configurations use the saved attribute, and malformed lines
+        // are skipped.
+        File storeFile1 = createFile("lastRunStore1.txt", "cfgA\t100", "cfgB\t200", "cfgA\t300", "cfgB\t-1", "malformed",
+                "cfgC\tnotANumber", "cfg\twith tab\t400");
+        LastRunStore store1 = new LastRunStore(storeFile1);
+        long runTime = store1.getRunTime(mockRunTimeConfiguration("cfgA", "5"));
+        Assertions.assertTrue(runTime == 300, "The run time of cfgA should have been 300. Found: " + runTime);
+        runTime = store1.getRunTime(mockRunTimeConfiguration("cfgB", "5"));
+        Assertions.assertTrue(runTime == 5, "The removed cfgB should have used its saved run time of 5. Found: " + runTime);
+        runTime = store1.getRunTime(mockRunTimeConfiguration("cfgC", "5"));
+        Assertions.assertTrue(runTime == 5, "The malformed cfgC should have used its saved run time of 5. Found: " + runTime);
+        runTime = store1.getRunTime(mockRunTimeConfiguration("cfg\twith tab", "5"));
+        Assertions.assertTrue(runTime == 400, "The run time of the name with a tab should have been 400. Found: " + runTime);
+
+        // Test 2. Renames and removals are persisted.
+        store1.rename("cfgA", "cfgARenamed");
+        store1.remove("cfg\twith tab");
+        LastRunStore store1Reloaded = new LastRunStore(storeFile1);
+        runTime = store1Reloaded.getRunTime(mockRunTimeConfiguration("cfgARenamed", "0"));
+        Assertions.assertTrue(runTime == 300, "The run time of cfgARenamed should have been 300. Found: " + runTime);
+        runTime = store1Reloaded.getRunTime(mockRunTimeConfiguration("cfgA", "0"));
+        Assertions.assertTrue(runTime == 0, "The renamed cfgA should not have had a run time. Found: " + runTime);
+        runTime = store1Reloaded.getRunTime(mockRunTimeConfiguration("cfg\twith tab", "0"));
+        Assertions.assertTrue(runTime == 0, "The removed configuration should not have had a run time. Found: " + runTime);
+
+        // Test 3. Compaction. A file whose lines are mostly out of date is rewritten with the current run times only.
+        String[] lines = new String[150];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "cfgD\t" + (1000 + i);
+        }
+        File storeFile2 = createFile("lastRunStore2.txt", lines);
+        runTime = new LastRunStore(storeFile2).getRunTime(mockRunTimeConfiguration("cfgD", "0"));
+        Assertions.assertTrue(runTime == 1149, "The run time of cfgD should have been 1149. Found: " + runTime);
+        List<String> compactedLines = Files.readAllLines(storeFile2.toPath());
+        Assertions.assertTrue(compactedLines.equals(List.of("cfgD\t1149")),
+                "The store file should have been compacted. Found: " + compactedLines);
+
+        // Test 4. Migration. Saved run times are copied into the store, unless the store already has a run time.
+        File storeFile3 = tempDir.toPath().resolve("lastRunStore3.txt").toFile();
+        LastRunStore store3 = new LastRunStore(storeFile3);
+        store3.setRunTime(mockRunTimeConfiguration("cfgE", "0"), 500);
+        store3.migrate(new ILaunchConfiguration[] { mockRunTimeConfiguration("cfgE", "999"), mockRunTimeConfiguration("cfgF", "700"),
+                mockRunTimeConfiguration("cfgG", "0") });
+        LastRunStore store3Reloaded = new LastRunStore(storeFile3);
+        runTime = store3Reloaded.getRunTime(mockRunTimeConfiguration("cfgE", "0"));
+        Assertions.assertTrue(runTime == 500, "The stored run time of cfgE should not have been replaced. Found: " + runTime);
+        runTime = store3Reloaded.getRunTime(mockRunTimeConfiguration("cfgF", "0"));
+        Assertions.assertTrue(runTime == 700, "The saved run time of cfgF should have been migrated. Found: " + runTime);
+        List<String> migratedLines = Files.readAllLines(storeFile3.toPath());
+        Assertions.assertTrue(migratedLines.equals(List.of("cfgE\t500", "cfgF\t700")),
+                "Only the run time of cfgF should have been migrated. Found: " + migratedLines);
+    }
+
+    /**
+     * Returns a mocked launch configuration with the input run time saved in its {@link StartTab#PROJECT_RUN_TIME} attribute.
+     * 
+     * @param name The configuration name.
+     * @param runTime The saved run time.
+     * 
+     * @return A mocked launch configuration.
+     * 
+     * @throws CoreException
+     */
+    private ILaunchConfiguration mockRunTimeConfiguration(String name, String runTime) throws CoreException {
+        return mockLaunchConfiguration(Map.of("name", name, StartTab.PROJECT_NAME, "lastRunStoreProject", StartTab.PROJECT_RUN_TIME,
+                runTime, StartTab.PROJECT_RUN_IN_CONTAINER, false));
+    }
+
+    /**
+     * Tests that the cached JRE container paths are discarded when the classpath of a Java project changes, and that the install
+     * locations are resolved again when the installed JREs change.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testJavaInstallCacheInvalidation() throws Exception {
+        JavaInstallCache cache = JavaInstallCache.getInstance();
+        String projectName = "javaInstallCacheProject";
+        String containerPath = "org.eclipse.jdt.launching.JRE_CONTAINER/javaInstallCacheVM";
+
+        // Test 1. Changes that do not affect the classpath keep the cached container paths.
+        cache.putContainerPath(projectName, containerPath);
+        IJavaElementDelta sourceChange = mockJavaElementDelta(IJavaElement.JAVA_PROJECT, IJavaElementDelta.CHANGED,
+                IJavaElementDelta.F_CHILDREN, mockJavaElementDelta(IJavaElement.PACKAGE_FRAGMENT_ROOT, IJavaElementDelta.CHANGED,
+                        IJavaElementDelta.F_CLASSPATH_CHANGED));
+        cache.elementChanged(new ElementChangedEvent(
+                mockJavaElementDelta(IJavaElement.JAVA_MODEL, IJavaElementDelta.CHANGED, IJavaElementDelta.F_CHILDREN, sourceChange),
+                ElementChangedEvent.POST_CHANGE));
+        Assertions.assertTrue(containerPath.equals(cache.getContainerPath(projectName)),
+                "The container path should have been kept. Found: " + cache.getContainerPath(projectName));
+
+        // Test 2. A classpath change discards the cached container paths.
+        IJavaElementDelta classpathChange = mockJavaElementDelta(IJavaElement.JAVA_PROJECT, IJavaElementDelta.CHANGED,
+                IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED);
+        cache.elementChanged(new ElementChangedEvent(
+                mockJavaElementDelta(IJavaElement.JAVA_MODEL, IJavaElementDelta.CHANGED, IJavaElementDelta.F_CHILDREN, classpathChange),
+                ElementChangedEvent.POST_CHANGE));
+        Assertions.assertFalse(cache.hasContainerPath(projectName), "The container path should have been discarded.");
+
+        // Test 3. A project without a container path is cached, and adding a Java project discards it.
+        cache.putContainerPath(projectName, null);
+        Assertions.assertTrue(cache.hasContainerPath(projectName), "The missing container path should have been cached.");
+        IJavaElementDelta projectAdded = mockJavaElementDelta(IJavaElement.JAVA_PROJECT, IJavaElementDelta.ADDED, 0);
+        cache.elementChanged(new ElementChangedEvent(
+                mockJavaElementDelta(IJavaElement.JAVA_MODEL, IJavaElementDelta.CHANGED, IJavaElementDelta.F_CHILDREN, projectAdded),
+                ElementChangedEvent.POST_CHANGE));
+        Assertions.assertFalse(cache.hasContainerPath(projectName), "The missing container path should have been discarded.");
+
+        // Test 4. The install location of the default JRE is resolved again after the installed JREs change.
+        String expectedLocation = JavaRuntime.getDefaultVMInstall().getInstallLocation().getAbsolutePath();
+        String location = cache.getInstallLocation(null);
+        Assertions.assertTrue(expectedLocation.equals(location), "The default install location should have been " + expectedLocation
+                + ". Found: " + location);
+        cache.vmAdded(null);
+        location = cache.getInstallLocation(null);
+        Assertions.assertTrue(expectedLocation.equals(location), "The default install location should have been " + expectedLocation
+                + ". Found: " + location);
+    }
+
+    /**
+     * Returns a mocked Java element delta.
+     * 
+     * @param elementType The type of the changed element.
+     * @param kind The kind of the change.
+     * @param flags The change flags.
+     * @param children The deltas of the changed children.
+     * 
+     * @return A mocked Java element delta.
+     */
+    private IJavaElementDelta mockJavaElementDelta(int elementType, int kind, int flags, IJavaElementDelta... children) {
+        IJavaElement element = mock(IJavaElement.class);
+        when(element.getElementType()).thenReturn(elementType);
+        IJavaElementDelta delta = mock(IJavaElementDelta.class);
+        when(delta.getElement()).thenReturn(element);
+        when(delta.getKind()).thenReturn(kind);
+        when(delta.getFlags()).thenReturn(flags);
+        when(delta.getAffectedChildren()).thenReturn(children);
+
+        return delta;
+    }
+
+    /**
+     * Tests that the Remote Java Application configuration that connects to the requested debug port is preferred, and that the
+     * configuration that ran last is returned otherwise.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testRemoteJavaAppConfigLookup() throws Exception {
+        RemoteJavaAppConfigIndex index = RemoteJavaAppConfigIndex.getInstance();
+        String projectName = "remoteJavaAppIndexProject";
+        ILaunchConfiguration cfg1 = saveRemoteJavaAppConfiguration("remoteJavaAppIndex1", projectName, "7777", 1000000000001L);
+        ILaunchConfiguration cfg2 = saveRemoteJavaAppConfiguration("remoteJavaAppIndex2", projectName, "8888", 1000000000002L);
+        try {
+            // Test 1. The configuration that connects to the same port is preferred over the configuration that ran last.
+            ILaunchConfiguration found = index.find(projectName, "7777");
+            Assertions.assertTrue(cfg1.equals(found), "The configuration using port 7777 should have been returned. Found: " + found);
+
+            // Test 2. No configuration connects to the port. The configuration that ran last is returned.
+            found = index.find(projectName, "9999");
+            Assertions.assertTrue(cfg2.equals(found), "The configuration that ran last should have been returned. Found: " + found);
+            found = index.find(projectName, null);
+            Assertions.assertTrue(cfg2.equals(found), "The configuration that ran last should have been returned. Found: " + found);
+            found = index.find("remoteJavaAppIndexUnknownProject", "7777");
+            Assertions.assertTrue(found == null, "No configuration should have been returned for an unknown project. Found: " + found);
+
+            // Test 3. A changed configuration is re-indexed. The configuration using the port that ran last is preferred.
+            ILaunchConfigurationWorkingCopy workingCopy = cfg2.getWorkingCopy();
+            workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_CONNECT_MAP, Map.of("hostname", "localhost", "port", "7777"));
+            workingCopy.setAttribute(StartTab.PROJECT_RUN_TIME, "1000000000003");
+            cfg2 = workingCopy.doSave();
+            found = index.find(projectName, "7777");
+            Assertions.assertTrue(cfg2.equals(found), "The changed configuration should have been returned. Found: " + found);
+
+            // Test 4. A removed configuration is no longer returned.
+            cfg2.delete();
+            found = index.find(projectName, "7777");
+            Assertions.assertTrue(cfg1.equals(found), "The remaining configuration should have been returned. Found: " + found);
+        } finally {
+            cfg1.delete();
+            cfg2.delete();
+        }
+    }
+
+    /**
+     * Saves a Remote Java Application configuration that connects to the input port.
+     * 
+     * @param name The configuration name.
+     * @param projectName The name of the project associated with the configuration.
+     * @param port The debug port.
+     * @param runTime The time at which the configuration ran last.
+     * 
+     * @return The saved configuration.
+     * 
+     * @throws CoreException
+     */
+    private ILaunchConfiguration saveRemoteJavaAppConfiguration(String name, String projectName, String port, long runTime)
+            throws CoreException {
+        ILaunchConfigurationType remoteJavaAppConfigType = DebugPlugin.getDefault().getLaunchManager()
+                .getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_REMOTE_JAVA_APPLICATION);
+        ILaunchConfigurationWorkingCopy workingCopy = remoteJavaAppConfigType.newInstance(null, name);
+        workingCopy.setAttribute(StartTab.PROJECT_NAME, projectName);
+        workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_CONNECT_MAP, Map.of("hostname", "localhost", "port", port));
+        workingCopy.setAttribute(StartTab.PROJECT_RUN_TIME, String.valueOf(runTime));
+
+        return workingCopy.doSave();
+    }
+
+    /**
+     * Tests that resolved build commands are cached, and that they are resolved again after an invalidation or after a wrapper is
+     * created outside of the workspace. Also reports the time of uncached and cached lookups with a 60-entry PATH.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testCommandCache() throws Exception {
+        Path root = Files.createDirectories(tempDir.toPath().resolve("commandCache"));
+        Path project = Files.createDirectories(root.resolve("project"));
+        String projectPath = project.toString();
+        List<Path> pathEntries = new ArrayList<Path>();
+        for (int i = 0; i < 60; i++) {
+            pathEntries.add(Files.createDirectories(root.resolve("bin" + i)));
+        }
+        String pathEnv = String.join(File.pathSeparator, pathEntries.stream().map(Path::toString).toArray(String[]::new));
+
+        // Resolve mvn from the PATH only, whatever the Maven install location preference of the test environment is.
+        IPreferenceStore store = LibertyDevPlugin.getDefault().getPreferenceStore();
+        String mvnPath = store.getString("MVNPATH");
+        store.setValue("MVNPATH", root.resolve("noMaven").toString());
+        try {
+            Path lastEntry = pathEntries.get(pathEntries.size() - 1);
+            Files.createFile(lastEntry.resolve("mvn"));
+            Files.createFile(lastEntry.resolve("mvn.cmd"));
+
+            // Test 1. The command is resolved from the last PATH entry.
+            String cmd = CommandBuilder.getMavenCommandList(projectPath, pathEnv).get(0);
+            Assertions.assertTrue(cmd.startsWith(lastEntry.toString()), "The command should have been resolved from " + lastEntry
+                    + ". Found: " + cmd);
+
+            // Report the time of uncached and cached lookups.
+            int lookups = 200;
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                CommandBuilder.invalidateCachedCommands(projectPath);
+                CommandBuilder.getMavenCommandList(projectPath, pathEnv);
+            }
+            long uncachedNanos = (System.nanoTime() - start) / lookups;
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                CommandBuilder.getMavenCommandList(projectPath, pathEnv);
+            }
+            long cachedNanos = (System.nanoTime() - start) / lookups;
+            System.out.println("INFO: Command lookup with a " + pathEntries.size() + "-entry PATH. Uncached: " + uncachedNanos
+                    + " ns. Cached: " + cachedNanos + " ns.");
+
+            // Test 2. A command found earlier in the PATH is not used while the cached command is valid.
+            Path firstEntry = pathEntries.get(0);
+            Files.createFile(firstEntry.resolve("mvn"));
+            Files.createFile(firstEntry.resolve("mvn.cmd"));
+            cmd = CommandBuilder.getMavenCommandList(projectPath, pathEnv).get(0);
+            Assertions.assertTrue(cmd.startsWith(lastEntry.toString()), "The cached command should have been returned. Found: " + cmd);
+
+            // Test 3. The command is resolved again after the project's cached commands are invalidated.
+            CommandBuilder.invalidateCachedCommands(projectPath);
+            cmd = CommandBuilder.getMavenCommandList(projectPath, pathEnv).get(0);
+            Assertions.assertTrue(cmd.startsWith(firstEntry.toString()), "The command should have been resolved from " + firstEntry
+                    + ". Found: " + cmd);
+
+            // Test 4. A wrapper created outside of the workspace is used without an invalidation.
+            Files.createDirectories(project.resolve(".mvn/wrapper"));
+            Files.createFile(project.resolve(".mvn/wrapper/maven-wrapper.jar"));
+            Files.createFile(project.resolve(".mvn/wrapper/maven-wrapper.properties"));
+            Files.createFile(project.resolve("mvnw"));
+            Files.createFile(project.resolve("mvnw.cmd"));
+            cmd = CommandBuilder.getMavenCommandList(projectPath, pathEnv).get(0);
+            Assertions.assertTrue(cmd.startsWith(project.resolve("mvnw").toString()), "The wrapper should have been returned. Found: "
+                    + cmd);
+
+            // Test 5. The PATH command is used again once the wrapper is deleted.
+            Files.delete(project.resolve("mvnw"));
+            Files.delete(project.resolve("mvnw.cmd"));
+            cmd = CommandBuilder.getMavenCommandList(projectPath, pathEnv).get(0);
+            Assertions.assertTrue(cmd.startsWith(firstEntry.toString()), "The command should have been resolved from " + firstEntry
+                    + ". Found: " + cmd);
+        } finally {
+            store.setValue("MVNPATH", mvnPath);
+            CommandBuilder.invalidateCachedCommands(projectPath);
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    /**
+     * Tests that queued JDT requests run by priority, then in submission order, that a request submitted with a supersede key
+     * cancels the pending request submitted with the same key, and that a cancelled request stops at its next cancel check.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testJDTRequestExecutor() throws Exception {
+        JDTRequestExecutor executor = new JDTRequestExecutor(1);
+        try {
+            List<String> runOrder = Collections.synchronizedList(new ArrayList<String>());
+
+            // Keep the only thread busy so that the following requests are queued.
+            CountDownLatch blockerRelease = new CountDownLatch(1);
+            CompletableFuture<Boolean> blocker = executor.computeAsync(Priority.INTERACTIVE, cancelChecker -> {
+                try {
+                    return blockerRelease.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            });
+            CompletableFuture<Boolean> background = executor.computeAsync(Priority.BACKGROUND,
+                    cancelChecker -> runOrder.add("background"));
+            CompletableFuture<Boolean> superseded = executor.computeAsync(Priority.BACKGROUND, "document1",
+                    cancelChecker -> runOrder.add("superseded"));
+            CompletableFuture<Boolean> interactive = executor.computeAsync(Priority.INTERACTIVE,
+                    cancelChecker -> runOrder.add("interactive"));
+            CompletableFuture<Boolean> superseding = executor.computeAsync(Priority.BACKGROUND, "document1",
+                    cancelChecker -> runOrder.add("superseding"));
+            blockerRelease.countDown();
+            blocker.get(30, TimeUnit.SECONDS);
+            background.get(30, TimeUnit.SECONDS);
+            interactive.get(30, TimeUnit.SECONDS);
+            superseding.get(30, TimeUnit.SECONDS);
+
+            // Test 1. The interactive request runs before the background requests that were queued before it.
+            Assertions.assertTrue(runOrder.equals(List.of("interactive", "background", "superseding")),
+                    "The requests should have run in priority order, then in submission order. Found: " + runOrder);
+
+            // Test 2. The superseded request is cancelled and does not run.
+            Assertions.assertTrue(superseded.isCancelled(), "The superseded request should have been cancelled.");
+
+            // Test 3. A cancelled request stops at its next cancel check, which frees the thread for the next request.
+            CountDownLatch started = new CountDownLatch(1);
+            CompletableFuture<Boolean> cancelled = executor.computeAsync(Priority.INTERACTIVE, cancelChecker -> {
+                started.countDown();
+                while (true) {
+                    cancelChecker.checkCanceled();
+                    Thread.onSpinWait();
+                }
+            });
+            Assertions.assertTrue(started.await(30, TimeUnit.SECONDS), "The request to cancel did not start.");
+            cancelled.cancel(false);
+            CompletableFuture<Boolean> next = executor.computeAsync(Priority.BACKGROUND, cancelChecker -> Boolean.TRUE);
+            Assertions.assertTrue(next.get(30, TimeUnit.SECONDS), "The request submitted after the cancelled request did not run.");
+        } finally {
+            executor.close();
+        }
+    }
+
     /**
      * Returns a list of launch configurations.
      * 